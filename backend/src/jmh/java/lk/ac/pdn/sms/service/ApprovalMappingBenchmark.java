@@ -0,0 +1,70 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.entity.AdminApplicationView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Read-model row to {@link ApprovalDto} mapping for an approval inbox page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApprovalMappingBenchmark {
+
+    @Param({"50", "500"})
+    int inboxSize;
+
+    private AdminReadModel readModel;
+    private List<AdminApplicationView> registrations;
+    private List<AdminApplicationView> renewals;
+    private List<AdminApplicationView> events;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        // Registration rows carry their duplicate matches, so the index is real and holds the inbox
+        DuplicateSocietyIndex duplicates = new DuplicateSocietyIndex(null, null, 0.6);
+        readModel = new AdminReadModel(null, null, null, null, duplicates);
+        registrations = new ArrayList<>();
+        renewals = new ArrayList<>();
+        events = new ArrayList<>();
+        for (long id = 1; id <= inboxSize; id++) {
+            var registration = fixtures.registration(id);
+            duplicates.onRegistrationChanged(registration);
+            AdminApplicationView view = new AdminApplicationView();
+            AdminReadModel.fill(view, registration);
+            // An inbox only holds pending rows, and only those are checked for duplicates
+            view.setStatus("PENDING_DEAN");
+            registrations.add(view);
+
+            view = new AdminApplicationView();
+            AdminReadModel.fill(view, fixtures.renewal(id));
+            renewals.add(view);
+
+            view = new AdminApplicationView();
+            AdminReadModel.fill(view, fixtures.event(id));
+            events.add(view);
+        }
+    }
+
+    @Benchmark
+    public List<ApprovalDto> registrations() {
+        return registrations.stream().map(row -> readModel.toDto(row, true)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ApprovalDto> renewals() {
+        return renewals.stream().map(row -> readModel.toDto(row, true)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ApprovalDto> events() {
+        return events.stream().map(row -> readModel.toDto(row, true)).collect(Collectors.toList());
+    }
+}
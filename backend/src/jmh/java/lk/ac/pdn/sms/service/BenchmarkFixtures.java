@@ -0,0 +1,311 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
+import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded generators for the benchmark inputs. Sizes follow what real applications look
+ * like: six officials, a committee of ~15 and a general member list of 50-200 students.
+ */
+final class BenchmarkFixtures {
+
+    static final String[] FACULTIES = {
+            "Faculty of Engineering", "Faculty of Science", "Faculty of Arts", "Faculty of Medicine",
+            "Faculty of Agriculture", "Faculty of Dental Sciences", "Faculty of Management",
+            "Faculty of Veterinary Medicine and Animal Science", "Faculty of Allied Health Sciences"
+    };
+
+    private static final String[] FACULTY_CODES = {"E", "S", "A", "M", "AG", "D", "MG", "V", "AHS"};
+
+    private static final String[] FIRST_NAMES = {
+            "Kasun", "Nimali", "Tharindu", "Dilini", "Sahan", "Ishara", "Chamodi", "Ravindu",
+            "Sanduni", "Pasindu", "Hiruni", "Janith", "Thilini", "Kavindu", "Nethmi", "Arjun",
+            "Priya", "Mohamed", "Fathima", "Dinuka"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Perera", "Fernando", "Silva", "Jayasinghe", "Bandara", "Wickramasinghe", "Rajapaksha",
+            "Gunawardena", "Herath", "Dissanayake", "Senanayake", "Kumarasinghe", "Rathnayake",
+            "Sivakumar", "Nazeer"
+    };
+
+    private static final String[] SOCIETY_WORDS = {
+            "Photography", "Robotics", "Drama", "Buddhist", "Hindu", "Debating", "Astronomy",
+            "Rotaract", "Environmental", "Music", "Gavel", "Chess", "Entrepreneurship", "Literary"
+    };
+
+    private static final String[] VENUES = {
+            "E.O.E. Pereira Theatre", "Arts Theatre", "Senate Building Hall", "Gymnasium",
+            "Science Faculty Auditorium", "Main Playground", "Hilda Obeyesekera Hall"
+    };
+
+    private static final String[] EMAIL_DOMAINS = {"eng.pdn.ac.lk", "sci.pdn.ac.lk", "arts.pdn.ac.lk", "gmail.com"};
+
+    private final Random random;
+
+    BenchmarkFixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    String name() {
+        return pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+    }
+
+    // e.g. "E/19/123", with the spacing and case variants students actually type
+    String regNo() {
+        String regNo = pick(FACULTY_CODES) + "/" + (17 + random.nextInt(7)) + "/" + String.format("%03d", random.nextInt(600));
+        switch (random.nextInt(4)) {
+            case 0:
+                return regNo.toLowerCase();
+            case 1:
+                return regNo.replace("/", " / ");
+            default:
+                return regNo;
+        }
+    }
+
+    String email(String name) {
+        return name.toLowerCase().replace(' ', '.') + random.nextInt(100) + "@" + pick(EMAIL_DOMAINS);
+    }
+
+    String mobile() {
+        String number = "7" + (10000000 + random.nextInt(89999999));
+        return random.nextBoolean() ? "0" + number : "+94 " + number;
+    }
+
+    String societyName() {
+        return pick(SOCIETY_WORDS) + " Society of " + pick(FACULTIES).replace("Faculty of ", "");
+    }
+
+    /** Mix of well-formed and malformed inputs, roughly one in five invalid. */
+    String[] emails(int count) {
+        String[] emails = new String[count];
+        for (int i = 0; i < count; i++) {
+            String email = email(name());
+            emails[i] = random.nextInt(5) == 0 ? email.replace("@", " at ") : email;
+        }
+        return emails;
+    }
+
+    String[] mobiles(int count) {
+        String[] mobiles = new String[count];
+        for (int i = 0; i < count; i++) {
+            mobiles[i] = random.nextInt(5) == 0 ? "011" + random.nextInt(9999999) : mobile();
+        }
+        return mobiles;
+    }
+
+    String[] regNos(int count) {
+        String[] regNos = new String[count];
+        for (int i = 0; i < count; i++) {
+            regNos[i] = random.nextInt(5) == 0 ? String.valueOf(random.nextInt(99999)) : regNo();
+        }
+        return regNos;
+    }
+
+    SocietyRegistrationDto registrationDto(int committeeSize, int memberCount) {
+        SocietyRegistrationDto dto = new SocietyRegistrationDto();
+        String applicant = name();
+        dto.setApplicantFullName(applicant);
+        dto.setApplicantRegNo(regNo());
+        dto.setApplicantEmail(email(applicant));
+        dto.setApplicantFaculty(pick(FACULTIES));
+        dto.setApplicantMobile(mobile());
+
+        dto.setSocietyName(societyName());
+        dto.setAims("To promote " + pick(SOCIETY_WORDS).toLowerCase() + " among undergraduates through workshops, "
+                + "competitions and community service projects across the university.");
+        dto.setAgmDate(LocalDate.now().minusDays(random.nextInt(60)).toString());
+        dto.setBankAccount(String.valueOf(100000000L + random.nextInt(899999999)));
+        dto.setBankName("Bank of Ceylon, Peradeniya");
+
+        String treasurer = name();
+        dto.setSeniorTreasurerTitle("Dr.");
+        dto.setSeniorTreasurerFullName(treasurer);
+        dto.setSeniorTreasurerDesignation("Senior Lecturer");
+        dto.setSeniorTreasurerDepartment("Department of Computer Engineering");
+        dto.setSeniorTreasurerEmail(email(treasurer));
+        dto.setSeniorTreasurerAddress("Department of Computer Engineering, University of Peradeniya");
+        dto.setSeniorTreasurerMobile(mobile());
+
+        String president = name();
+        dto.setPresidentName(president);
+        dto.setPresidentRegNo(regNo());
+        dto.setPresidentEmail(email(president));
+        dto.setPresidentMobile(mobile());
+        dto.setPresidentAddress("No. " + random.nextInt(200) + ", Galaha Road, Peradeniya");
+
+        String vicePresident = name();
+        dto.setVicePresidentName(vicePresident);
+        dto.setVicePresidentRegNo(regNo());
+        dto.setVicePresidentEmail(email(vicePresident));
+        dto.setVicePresidentMobile(mobile());
+        dto.setVicePresidentAddress("No. " + random.nextInt(200) + ", Kandy Road, Kandy");
+
+        String secretary = name();
+        dto.setSecretaryName(secretary);
+        dto.setSecretaryRegNo(regNo());
+        dto.setSecretaryEmail(email(secretary));
+        dto.setSecretaryMobile(mobile());
+        dto.setSecretaryAddress("Akbar Hall, University of Peradeniya");
+
+        String jointSecretary = name();
+        dto.setJointSecretaryName(jointSecretary);
+        dto.setJointSecretaryRegNo(regNo());
+        dto.setJointSecretaryEmail(email(jointSecretary));
+        dto.setJointSecretaryMobile(mobile());
+        dto.setJointSecretaryAddress("Ramanathan Hall, University of Peradeniya");
+
+        String juniorTreasurer = name();
+        dto.setJuniorTreasurerName(juniorTreasurer);
+        dto.setJuniorTreasurerRegNo(regNo());
+        dto.setJuniorTreasurerEmail(email(juniorTreasurer));
+        dto.setJuniorTreasurerMobile(mobile());
+        dto.setJuniorTreasurerAddress("Marrs Hall, University of Peradeniya");
+
+        String editor = name();
+        dto.setEditorName(editor);
+        dto.setEditorRegNo(regNo());
+        dto.setEditorEmail(email(editor));
+        dto.setEditorMobile(mobile());
+        dto.setEditorAddress("Hilda Obeyesekera Hall, University of Peradeniya");
+
+        List<SocietyRegistrationDto.AdvisoryBoardMemberDto> advisoryBoard = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SocietyRegistrationDto.AdvisoryBoardMemberDto member = new SocietyRegistrationDto.AdvisoryBoardMemberDto();
+            member.setName("Prof. " + name());
+            member.setDesignation("Professor");
+            member.setDepartment("Department of " + pick(SOCIETY_WORDS));
+            advisoryBoard.add(member);
+        }
+        dto.setAdvisoryBoard(advisoryBoard);
+
+        List<SocietyRegistrationDto.CommitteeMemberDto> committee = new ArrayList<>();
+        for (int i = 0; i < committeeSize; i++) {
+            SocietyRegistrationDto.CommitteeMemberDto member = new SocietyRegistrationDto.CommitteeMemberDto();
+            member.setName(name());
+            member.setRegNo(regNo());
+            committee.add(member);
+        }
+        dto.setCommitteeMember(committee);
+
+        List<SocietyRegistrationDto.MemberDto> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            SocietyRegistrationDto.MemberDto member = new SocietyRegistrationDto.MemberDto();
+            member.setName(name());
+            member.setRegNo(regNo());
+            members.add(member);
+        }
+        dto.setMember(members);
+
+        List<SocietyRegistrationDto.PlanningEventDto> planningEvents = new ArrayList<>();
+        String[] months = {"January", "March", "May", "July", "September", "November"};
+        for (String month : months) {
+            SocietyRegistrationDto.PlanningEventDto event = new SocietyRegistrationDto.PlanningEventDto();
+            event.setMonth(month);
+            event.setActivity(pick(SOCIETY_WORDS) + " workshop");
+            planningEvents.add(event);
+        }
+        dto.setPlanningEvents(planningEvents);
+        return dto;
+    }
+
+    SocietyRegistration registration(long id) {
+        SocietyRegistration reg = new SocietyService().convertToEntity(registrationDto(15, 100));
+        reg.setId(id);
+        reg.setYear(LocalDate.now().getYear());
+        reg.setSubmittedDate(LocalDateTime.now().minusDays(random.nextInt(30)));
+        reg.setStatus(SocietyRegistration.ApprovalStage.values()[random.nextInt(SocietyRegistration.ApprovalStage.values().length)]);
+        return reg;
+    }
+
+    SocietyRenewal renewal(long id) {
+        SocietyRenewal renewal = new SocietyRenewal();
+        String applicant = name();
+        renewal.setId(id);
+        renewal.setSocietyName(societyName());
+        renewal.setApplicantFullName(applicant);
+        renewal.setApplicantEmail(email(applicant));
+        renewal.setApplicantFaculty(pick(FACULTIES));
+        renewal.setSubmittedDate(LocalDateTime.now().minusDays(random.nextInt(30)));
+        renewal.setStatus(SocietyRenewal.RenewalStatus.values()[random.nextInt(SocietyRenewal.RenewalStatus.values().length)]);
+        return renewal;
+    }
+
+    EventPermission event(long id) {
+        EventPermission event = new EventPermission();
+        String applicant = name();
+        event.setId(id);
+        event.setSocietyName(societyName());
+        event.setEventName("Annual " + pick(SOCIETY_WORDS) + " Night " + LocalDate.now().getYear());
+        event.setApplicantName(applicant);
+        event.setApplicantEmail(email(applicant));
+        event.setApplicantRegNo(regNo());
+        event.setApplicantFaculty(pick(FACULTIES));
+        event.setPlace(pick(VENUES));
+        event.setEventDate(LocalDate.now().plusDays(random.nextInt(90)));
+        event.setTimeFrom(LocalTime.of(8 + random.nextInt(8), 0));
+        event.setTimeTo(event.getTimeFrom().plusHours(2 + random.nextInt(4)));
+        event.setSubmittedDate(LocalDateTime.now().minusDays(random.nextInt(14)));
+        event.setRejectionReason("Venue is reserved for the convocation rehearsal.");
+        event.setStatus(EventPermission.EventStatus.values()[random.nextInt(EventPermission.EventStatus.values().length)]);
+        return event;
+    }
+
+    List<AdminUser> admins(AdminUser.Role role, int count) {
+        List<AdminUser> admins = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdminUser admin = new AdminUser();
+            String name = name();
+            admin.setName(name);
+            admin.setEmail(email(name));
+            admin.setRole(role);
+            admin.setFaculty(pick(FACULTIES));
+            admins.add(admin);
+        }
+        return admins;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Interface stub whose methods return the given value when the return type fits,
+     * otherwise null or zero. Enough for the repositories and mail sender used here.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Object returnValue) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (returnValue != null && returnType.isInstance(returnValue)) return returnValue;
+            if (returnType == boolean.class) return false;
+            if (returnType == long.class) return 0L;
+            if (returnType == int.class) return 0;
+            return null;
+        });
+    }
+
+    // Services use field injection, so wire the stubs in the same way Spring would
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName, e);
+        }
+    }
+}
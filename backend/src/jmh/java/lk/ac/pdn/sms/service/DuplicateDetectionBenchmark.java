@@ -0,0 +1,47 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.Society;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One near-duplicate lookup per proposed name against a registry of historical societies,
+ * as done on registration submit and for every row of the Dean's inbox.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DuplicateDetectionBenchmark {
+
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "5000"})
+    int societyCount;
+
+    private DuplicateSocietyIndex index;
+    private String[] proposedNames;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        index = new DuplicateSocietyIndex(null, null, 0.6);
+        for (int i = 0; i < societyCount; i++) {
+            Society society = new Society();
+            society.setId((long) i);
+            // Memorial-style names keep the vocabulary realistic: a few common words, many surnames
+            society.setSocietyName(fixtures.name() + " " + fixtures.societyName());
+            society.setYear(2000 + i % 25);
+            society.setStatus(Society.SocietyStatus.ACTIVE);
+            index.onSocietyChanged(society);
+        }
+        proposedNames = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) proposedNames[i] = fixtures.name() + " " + fixtures.societyName();
+    }
+
+    @Benchmark
+    public void findDuplicates(Blackhole bh) {
+        for (String name : proposedNames) bh.consume(index.findDuplicates(name, null, null));
+    }
+}
@@ -0,0 +1,79 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.repository.AdminUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notification body rendering in {@link EmailService}. The mail sender only keeps the last
+ * message, so what is measured is the formatting and message construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailRenderingBenchmark {
+
+    private EmailService emailService;
+    private SocietyRegistration registration;
+    private EventPermission event;
+    private SimpleMailMessage lastSent;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        registration = fixtures.registration(1);
+        event = fixtures.event(1);
+
+        JavaMailSender mailSender = (JavaMailSender) Proxy.newProxyInstance(
+                JavaMailSender.class.getClassLoader(), new Class<?>[]{JavaMailSender.class}, (proxy, method, args) -> {
+                    if (args != null && args.length == 1 && args[0] instanceof SimpleMailMessage message) {
+                        lastSent = message;
+                    }
+                    return null;
+                });
+
+        emailService = new EmailService();
+        BenchmarkFixtures.inject(emailService, "mailSender", mailSender);
+        BenchmarkFixtures.inject(emailService, "meterRegistry", new SimpleMeterRegistry());
+        BenchmarkFixtures.inject(emailService, "adminUserRepository",
+                BenchmarkFixtures.stub(AdminUserRepository.class, fixtures.admins(AdminUser.Role.DEAN, 2)));
+    }
+
+    @Benchmark
+    public SimpleMailMessage registrationConfirmation() {
+        emailService.sendRegistrationConfirmation(registration);
+        return lastSent;
+    }
+
+    @Benchmark
+    public SimpleMailMessage registrationStatusUpdate() {
+        emailService.sendRegistrationStatusUpdate(registration, "PENDING_AR", "Dean", "Budget needs revision");
+        return lastSent;
+    }
+
+    @Benchmark
+    public SimpleMailMessage deanNotification() {
+        emailService.notifyDeanForApproval(registration);
+        return lastSent;
+    }
+
+    @Benchmark
+    public SimpleMailMessage eventConfirmation() {
+        emailService.sendEventPermissionConfirmation(event);
+        return lastSent;
+    }
+
+    @Benchmark
+    public SimpleMailMessage eventRejection() {
+        emailService.sendEventRejectionNotification(event);
+        return lastSent;
+    }
+}
@@ -0,0 +1,52 @@
+package lk.ac.pdn.sms.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex validation in {@link EmailValidationService} over a batch of form inputs,
+ * about one in five of them malformed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailValidationBenchmark {
+
+    private static final int BATCH = 256;
+
+    private EmailValidationService validationService;
+    private String[] emails;
+    private String[] mobiles;
+    private String[] regNos;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        validationService = new EmailValidationService();
+        emails = fixtures.emails(BATCH);
+        mobiles = fixtures.mobiles(BATCH);
+        regNos = fixtures.regNos(BATCH);
+    }
+
+    @Benchmark
+    public int emails() {
+        int valid = 0;
+        for (String email : emails) if (validationService.isValidEmail(email)) valid++;
+        return valid;
+    }
+
+    @Benchmark
+    public int mobiles() {
+        int valid = 0;
+        for (String mobile : mobiles) if (validationService.isValidMobile(mobile)) valid++;
+        return valid;
+    }
+
+    @Benchmark
+    public int registrationNumbers() {
+        int valid = 0;
+        for (String regNo : regNos) if (validationService.isValidRegistrationNumber(regNo)) valid++;
+        return valid;
+    }
+}
@@ -0,0 +1,56 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Document generation in {@link PDFService} for each application type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PdfGenerationBenchmark {
+
+    private PDFService pdfService;
+    private SocietyRegistration registration;
+    private SocietyRegistrationDto registrationDto;
+    private SocietyRenewal renewal;
+    private EventPermission event;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        pdfService = new PDFService(new SimpleMeterRegistry());
+        registration = fixtures.registration(1);
+        registrationDto = fixtures.registrationDto(15, 100);
+        renewal = fixtures.renewal(1);
+        event = fixtures.event(1);
+    }
+
+    @Benchmark
+    public byte[] registration() throws IOException {
+        return pdfService.generateRegistrationPDF(registration);
+    }
+
+    @Benchmark
+    public byte[] registrationPreview() throws IOException {
+        return pdfService.generateRegistrationPreviewPDF(registrationDto);
+    }
+
+    @Benchmark
+    public byte[] renewal() throws IOException {
+        return pdfService.generateRenewalPDF(renewal);
+    }
+
+    @Benchmark
+    public byte[] eventPermission() throws IOException {
+        return pdfService.generateEventPermissionPDF(event);
+    }
+}
@@ -0,0 +1,39 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration number normalization. {@code regex} is the replaceAll based version that
+ * EventPermissionService used before applicant checks moved to the credential index;
+ * {@code charLoop} is {@link TextNormalizer#normalizeRegNo}, which replaced it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegNoNormalizationBenchmark {
+
+    private static final int BATCH = 256;
+
+    private String[] regNos;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        regNos = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) regNos[i] = fixtures.regNo();
+    }
+
+    @Benchmark
+    public void regex(Blackhole bh) {
+        for (String regNo : regNos) bh.consume(regNo.toUpperCase().replaceAll("[\\s/]", ""));
+    }
+
+    @Benchmark
+    public void charLoop(Blackhole bh) {
+        for (String regNo : regNos) bh.consume(TextNormalizer.normalizeRegNo(regNo));
+    }
+}
@@ -0,0 +1,64 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One autocomplete lookup per typed prefix. {@code scan} filters every name with a
+ * case-insensitive contains, i.e. what the LIKE '%q%' search does without the round trip;
+ * {@code trie} is {@link SocietyNameIndex#suggest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocietyAutocompleteBenchmark {
+
+    private static final String[] PREFIXES = {"r", "rob", "robotics soc", "dra", "music society of sc", "lit", "x"};
+
+    @Param({"200", "2000"})
+    int societyCount;
+
+    private SocietyNameIndex index;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures fixtures = new BenchmarkFixtures(42);
+        List<Society> societies = new ArrayList<>();
+        names = new ArrayList<>();
+        for (int i = 0; i < societyCount; i++) {
+            Society society = new Society();
+            society.setSocietyName(fixtures.societyName() + " " + i);
+            society.setFaculty("Faculty of Science");
+            society.setStatus(Society.SocietyStatus.ACTIVE);
+            society.setYear(2025);
+            societies.add(society);
+            names.add(society.getSocietyName());
+        }
+        index = new SocietyNameIndex(BenchmarkFixtures.stub(SocietyRepository.class, societies));
+        index.rebuild();
+    }
+
+    @Benchmark
+    public void trie(Blackhole bh) {
+        for (String prefix : PREFIXES) bh.consume(index.suggest(prefix, 10));
+    }
+
+    @Benchmark
+    public void scan(Blackhole bh) {
+        for (String prefix : PREFIXES) {
+            List<String> matches = new ArrayList<>();
+            for (String name : names) {
+                if (name.toLowerCase(Locale.ROOT).contains(prefix) && matches.size() < 10) matches.add(name);
+            }
+            bh.consume(matches);
+        }
+    }
+}
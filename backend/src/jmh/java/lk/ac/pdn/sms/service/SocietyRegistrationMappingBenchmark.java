@@ -0,0 +1,33 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The DTO to entity mapping done by {@link SocietyService#registerSociety}, without the save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocietyRegistrationMappingBenchmark {
+
+    @Param({"50", "200"})
+    int memberCount;
+
+    private SocietyService societyService;
+    private SocietyRegistrationDto dto;
+
+    @Setup
+    public void setUp() {
+        societyService = new SocietyService();
+        dto = new BenchmarkFixtures(42).registrationDto(15, memberCount);
+    }
+
+    @Benchmark
+    public SocietyRegistration convertToEntity() {
+        return societyService.convertToEntity(dto);
+    }
+}
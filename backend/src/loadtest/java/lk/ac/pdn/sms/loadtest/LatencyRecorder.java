@@ -0,0 +1,81 @@
+package lk.ac.pdn.sms.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint latency samples. Every sample is kept so percentiles are exact; a few
+ * hundred thousand longs per run is well within budget.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        series.computeIfAbsent(endpoint, k -> new Series()).add(nanos, ok);
+    }
+
+    /**
+     * One row per endpoint plus a "TOTAL" row, in endpoint order.
+     */
+    Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        Series total = new Series();
+        new TreeMap<>(series).forEach((endpoint, s) -> {
+            rows.put(endpoint, s.summarize(elapsedSeconds));
+            total.addAll(s);
+        });
+        rows.put("TOTAL", total.summarize(elapsedSeconds));
+        return rows;
+    }
+
+    private static final class Series {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+            samples[size++] = nanos;
+            if (!ok) errors++;
+        }
+
+        synchronized void addAll(Series other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) add(other.samples[i], true);
+                errors += other.errors;
+            }
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", size);
+            row.put("errors", errors);
+            row.put("throughputPerSec", round(size / elapsedSeconds));
+            row.put("p50Ms", millis(percentile(sorted, 0.50)));
+            row.put("p95Ms", millis(percentile(sorted, 0.95)));
+            row.put("p99Ms", millis(percentile(sorted, 0.99)));
+            row.put("maxMs", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+            return row;
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package lk.ac.pdn.sms.loadtest;
+
+import lk.ac.pdn.sms.dto.EventPermissionDto;
+import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
+import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.RegistrationAdvisoryBoardMember;
+import lk.ac.pdn.sms.entity.RegistrationCommitteeMember;
+import lk.ac.pdn.sms.entity.RegistrationGeneralMember;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request payloads and seed rows shaped like real January traffic: full official
+ * slates, committees of ~15 and general member rosters of configurable size.
+ */
+class LoadFixtures {
+
+    static final String[] FACULTIES = {
+            "Faculty of Engineering", "Faculty of Science", "Faculty of Arts", "Faculty of Medicine",
+            "Faculty of Agriculture", "Faculty of Dental Sciences", "Faculty of Management",
+            "Faculty of Veterinary Medicine and Animal Science", "Faculty of Allied Health Sciences"
+    };
+
+    private static final String[] FACULTY_CODES = {"E", "S", "A", "M", "AG", "D", "MG", "V", "AHS"};
+
+    private static final String[] FIRST_NAMES = {
+            "Kasun", "Nimali", "Tharindu", "Dilini", "Sahan", "Ishara", "Chamodi", "Ravindu",
+            "Sanduni", "Pasindu", "Hiruni", "Janith", "Thilini", "Kavindu", "Nethmi", "Arjun",
+            "Priya", "Mohamed", "Fathima", "Dinuka"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Perera", "Fernando", "Silva", "Jayasinghe", "Bandara", "Wickramasinghe", "Rajapaksha",
+            "Gunawardena", "Herath", "Dissanayake", "Senanayake", "Kumarasinghe", "Rathnayake",
+            "Sivakumar", "Nazeer"
+    };
+
+    private static final String[] SOCIETY_WORDS = {
+            "Photography", "Robotics", "Drama", "Buddhist", "Hindu", "Debating", "Astronomy",
+            "Rotaract", "Environmental", "Music", "Gavel", "Chess", "Entrepreneurship", "Literary"
+    };
+
+    private static final String[] VENUES = {
+            "E.O.E. Pereira Theatre", "Arts Theatre", "Senate Building Hall", "Gymnasium",
+            "Science Faculty Auditorium", "Main Playground", "Hilda Obeyesekera Hall",
+            "Engineering Faculty Lecture Hall 1", "Dental Faculty Auditorium", "Agriculture Faculty Hall"
+    };
+
+    // Registration names must be unique per year, so each payload gets a sequence number
+    private final AtomicLong sequence = new AtomicLong();
+    private final int rosterSize;
+
+    LoadFixtures(int rosterSize) {
+        this.rosterSize = rosterSize;
+    }
+
+    List<AdminUser> adminUsers() {
+        List<AdminUser> admins = new ArrayList<>();
+        for (String faculty : FACULTIES) {
+            admins.add(admin("dean." + slug(faculty) + "@pdn.ac.lk", AdminUser.Role.DEAN, faculty));
+        }
+        admins.add(admin("ar@pdn.ac.lk", AdminUser.Role.ASSISTANT_REGISTRAR, null));
+        admins.add(admin("vc@pdn.ac.lk", AdminUser.Role.VICE_CHANCELLOR, null));
+        admins.add(admin("premises@pdn.ac.lk", AdminUser.Role.PREMISES_OFFICER, null));
+        admins.add(admin("ss@pdn.ac.lk", AdminUser.Role.STUDENT_SERVICE, null));
+        return admins;
+    }
+
+    Society society() {
+        long n = sequence.incrementAndGet();
+        Society society = new Society();
+        society.setSocietyName(pick(SOCIETY_WORDS) + " Society " + n);
+        society.setFaculty(pick(FACULTIES));
+        society.setYear(LocalDate.now().getYear());
+        society.setStatus(Society.SocietyStatus.ACTIVE);
+        society.setRegisteredDate(LocalDate.now().minusYears(1));
+        society.setAims("To promote " + pick(SOCIETY_WORDS).toLowerCase() + " among undergraduates.");
+
+        String president = name();
+        society.setPresidentName(president);
+        society.setPresidentRegNo(regNo());
+        society.setPresidentEmail(email(president));
+        society.setPresidentMobile(mobile());
+        String secretary = name();
+        society.setSecretaryName(secretary);
+        society.setSecretaryRegNo(regNo());
+        society.setSecretaryEmail(email(secretary));
+        society.setSecretaryMobile(mobile());
+        String treasurer = name();
+        society.setTreasurerName(treasurer);
+        society.setTreasurerRegNo(regNo());
+        society.setTreasurerEmail(email(treasurer));
+        society.setTreasurerMobile(mobile());
+        society.setSeniorTreasurerName("Dr. " + name());
+        society.setSeniorTreasurerEmail("senior.treasurer" + n + "@pdn.ac.lk");
+        return society;
+    }
+
+    // Last year's approved application for a seeded society, the history the renewal pre-fill reads
+    SocietyRegistration approvedRegistration(Society society) {
+        SocietyRegistrationDto dto = registration();
+        SocietyRegistration reg = new SocietyRegistration();
+        BeanUtils.copyProperties(dto, reg, "agmDate", "advisoryBoard", "committeeMember", "member", "planningEvents");
+        reg.setSocietyName(society.getSocietyName());
+        reg.setApplicantFaculty(society.getFaculty());
+        reg.setYear(society.getYear() - 1);
+        reg.setStatus(SocietyRegistration.ApprovalStage.APPROVED);
+        reg.setApprovedDate(LocalDateTime.now().minusYears(1));
+
+        List<RegistrationAdvisoryBoardMember> advisoryBoard = new ArrayList<>();
+        for (SocietyRegistrationDto.AdvisoryBoardMemberDto a : dto.getAdvisoryBoard()) {
+            RegistrationAdvisoryBoardMember member = new RegistrationAdvisoryBoardMember();
+            member.setName(a.getName());
+            member.setDesignation(a.getDesignation());
+            member.setDepartment(a.getDepartment());
+            advisoryBoard.add(member);
+        }
+        reg.setAdvisoryBoard(advisoryBoard);
+
+        List<RegistrationCommitteeMember> committee = new ArrayList<>();
+        for (SocietyRegistrationDto.CommitteeMemberDto c : dto.getCommitteeMember()) {
+            RegistrationCommitteeMember member = new RegistrationCommitteeMember();
+            member.setName(c.getName());
+            member.setRegNo(c.getRegNo());
+            committee.add(member);
+        }
+        reg.setCommitteeMember(committee);
+
+        List<RegistrationGeneralMember> members = new ArrayList<>();
+        for (SocietyRegistrationDto.MemberDto m : dto.getMember()) {
+            RegistrationGeneralMember member = new RegistrationGeneralMember();
+            member.setName(m.getName());
+            member.setRegNo(m.getRegNo());
+            members.add(member);
+        }
+        reg.setMember(members);
+        return reg;
+    }
+
+    SocietyRegistrationDto registration() {
+        long n = sequence.incrementAndGet();
+        SocietyRegistrationDto dto = new SocietyRegistrationDto();
+        String applicant = name();
+        dto.setApplicantFullName(applicant);
+        dto.setApplicantRegNo(regNo());
+        dto.setApplicantEmail(email(applicant));
+        dto.setApplicantFaculty(pick(FACULTIES));
+        dto.setApplicantMobile(mobile());
+
+        dto.setSocietyName(pick(SOCIETY_WORDS) + " Circle " + n);
+        dto.setAims("To promote " + pick(SOCIETY_WORDS).toLowerCase() + " among undergraduates through workshops, "
+                + "competitions and community service projects across the university.");
+        dto.setAgmDate(LocalDate.now().minusDays(ThreadLocalRandom.current().nextInt(60)).toString());
+        dto.setBankAccount(String.valueOf(100000000L + ThreadLocalRandom.current().nextInt(899999999)));
+        dto.setBankName("Bank of Ceylon, Peradeniya");
+
+        String treasurer = name();
+        dto.setSeniorTreasurerTitle("Dr.");
+        dto.setSeniorTreasurerFullName(treasurer);
+        dto.setSeniorTreasurerDesignation("Senior Lecturer");
+        dto.setSeniorTreasurerDepartment("Department of Computer Engineering");
+        dto.setSeniorTreasurerEmail(email(treasurer));
+        dto.setSeniorTreasurerAddress("Department of Computer Engineering, University of Peradeniya");
+        dto.setSeniorTreasurerMobile(mobile());
+
+        String president = name();
+        dto.setPresidentName(president);
+        dto.setPresidentRegNo(regNo());
+        dto.setPresidentEmail(email(president));
+        dto.setPresidentMobile(mobile());
+        dto.setPresidentAddress("Akbar Hall, University of Peradeniya");
+        String vicePresident = name();
+        dto.setVicePresidentName(vicePresident);
+        dto.setVicePresidentRegNo(regNo());
+        dto.setVicePresidentEmail(email(vicePresident));
+        dto.setVicePresidentMobile(mobile());
+        dto.setVicePresidentAddress("Marrs Hall, University of Peradeniya");
+        String secretary = name();
+        dto.setSecretaryName(secretary);
+        dto.setSecretaryRegNo(regNo());
+        dto.setSecretaryEmail(email(secretary));
+        dto.setSecretaryMobile(mobile());
+        dto.setSecretaryAddress("Ramanathan Hall, University of Peradeniya");
+        String jointSecretary = name();
+        dto.setJointSecretaryName(jointSecretary);
+        dto.setJointSecretaryRegNo(regNo());
+        dto.setJointSecretaryEmail(email(jointSecretary));
+        dto.setJointSecretaryMobile(mobile());
+        dto.setJointSecretaryAddress("Hilda Obeyesekera Hall, University of Peradeniya");
+        String juniorTreasurer = name();
+        dto.setJuniorTreasurerName(juniorTreasurer);
+        dto.setJuniorTreasurerRegNo(regNo());
+        dto.setJuniorTreasurerEmail(email(juniorTreasurer));
+        dto.setJuniorTreasurerMobile(mobile());
+        dto.setJuniorTreasurerAddress("Jayatilleke Hall, University of Peradeniya");
+        String editor = name();
+        dto.setEditorName(editor);
+        dto.setEditorRegNo(regNo());
+        dto.setEditorEmail(email(editor));
+        dto.setEditorMobile(mobile());
+        dto.setEditorAddress("Sangamitta Hall, University of Peradeniya");
+
+        List<SocietyRegistrationDto.AdvisoryBoardMemberDto> advisoryBoard = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SocietyRegistrationDto.AdvisoryBoardMemberDto member = new SocietyRegistrationDto.AdvisoryBoardMemberDto();
+            member.setName("Prof. " + name());
+            member.setDesignation("Professor");
+            member.setDepartment("Department of " + pick(SOCIETY_WORDS));
+            advisoryBoard.add(member);
+        }
+        dto.setAdvisoryBoard(advisoryBoard);
+
+        List<SocietyRegistrationDto.CommitteeMemberDto> committee = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            SocietyRegistrationDto.CommitteeMemberDto member = new SocietyRegistrationDto.CommitteeMemberDto();
+            member.setName(name());
+            member.setRegNo(regNo());
+            committee.add(member);
+        }
+        dto.setCommitteeMember(committee);
+
+        List<SocietyRegistrationDto.MemberDto> members = new ArrayList<>();
+        for (int i = 0; i < rosterSize; i++) {
+            SocietyRegistrationDto.MemberDto member = new SocietyRegistrationDto.MemberDto();
+            member.setName(name());
+            member.setRegNo(regNo());
+            members.add(member);
+        }
+        dto.setMember(members);
+
+        List<SocietyRegistrationDto.PlanningEventDto> planningEvents = new ArrayList<>();
+        for (String month : new String[]{"January", "March", "May", "July", "September", "November"}) {
+            SocietyRegistrationDto.PlanningEventDto event = new SocietyRegistrationDto.PlanningEventDto();
+            event.setMonth(month);
+            event.setActivity(pick(SOCIETY_WORDS) + " workshop");
+            planningEvents.add(event);
+        }
+        dto.setPlanningEvents(planningEvents);
+        return dto;
+    }
+
+    EventPermissionDto event(Society society) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        EventPermissionDto dto = new EventPermissionDto();
+        dto.setSocietyName(society.getSocietyName());
+        dto.setApplicantName(society.getPresidentName());
+        dto.setApplicantRegNo(society.getPresidentRegNo());
+        dto.setApplicantEmail(society.getPresidentEmail());
+        dto.setApplicantMobile(society.getPresidentMobile());
+        dto.setApplicantPosition("President");
+        dto.setEventName("Annual " + pick(SOCIETY_WORDS) + " Night " + sequence.incrementAndGet());
+        // Spread over a term of venues and half-hour slots so most requests do not collide
+        dto.setEventDate(LocalDate.now().plusDays(1 + random.nextInt(120)).toString());
+        LocalTime from = LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(20));
+        dto.setTimeFrom(from.toString());
+        dto.setTimeTo(from.plusHours(1 + random.nextInt(3)).toString());
+        dto.setPlace(pick(VENUES));
+        dto.setIsInsideUniversity(true);
+        dto.setLatePassRequired(random.nextInt(4) == 0);
+        dto.setOutsidersInvited(false);
+        dto.setFirstYearParticipation(true);
+        dto.setBudgetEstimate("LKR " + (10000 + random.nextInt(90000)));
+        dto.setFundCollectionMethods("Member contributions and sponsorships");
+        dto.setSeniorTreasurerName(society.getSeniorTreasurerName());
+        dto.setSeniorTreasurerDepartment("Department of Computer Engineering");
+        dto.setSeniorTreasurerMobile(mobile());
+        return dto;
+    }
+
+    private static AdminUser admin(String email, AdminUser.Role role, String faculty) {
+        AdminUser admin = new AdminUser();
+        admin.setName(name());
+        admin.setEmail(email);
+        admin.setRole(role);
+        admin.setFaculty(faculty);
+        admin.setIsActive(true);
+        return admin;
+    }
+
+    private static String name() {
+        return pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+    }
+
+    private static String regNo() {
+        return pick(FACULTY_CODES) + "/" + (18 + ThreadLocalRandom.current().nextInt(6)) + "/"
+                + String.format("%03d", ThreadLocalRandom.current().nextInt(999));
+    }
+
+    private static String email(String name) {
+        return name.toLowerCase().replace(' ', '.') + ThreadLocalRandom.current().nextInt(1000) + "@gmail.com";
+    }
+
+    private static String mobile() {
+        return "07" + (10000000 + ThreadLocalRandom.current().nextInt(89999999));
+    }
+
+    private static String slug(String faculty) {
+        return faculty.replace("Faculty of ", "").toLowerCase().replaceAll("[^a-z]+", "-");
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
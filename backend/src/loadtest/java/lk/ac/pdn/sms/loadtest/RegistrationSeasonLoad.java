@@ -0,0 +1,482 @@
+package lk.ac.pdn.sms.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lk.ac.pdn.sms.SmsUopApplication;
+import lk.ac.pdn.sms.config.InMemoryIndexInitializer;
+import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.repository.AdminUserRepository;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.service.AdminService;
+import lk.ac.pdn.sms.service.ApprovalService;
+import lk.ac.pdn.sms.service.EventPermissionService;
+import lk.ac.pdn.sms.service.PDFService;
+import lk.ac.pdn.sms.service.RenewalService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Replays the January registration rush against the real application: public browsing,
+ * registrations with large rosters, event submissions, preview PDFs and approvers working
+ * through their inboxes at the same time.
+ *
+ * <p>Settings are system properties: {@code load.duration} and {@code load.warmup} (seconds),
+ * {@code load.threads}, {@code load.roster} (general members per registration),
+ * {@code load.societies} (seeded societies), {@code load.smtp-delay-ms} (per-message relay
+ * latency) and {@code load.mix}, e.g. {@code browse=50,register=10,event=15,preview=15,approve=10}.
+ * {@code directory} fetches the active-society directory and {@code prefill} loads the
+ * renewal form pre-fill of a seeded society. Public GETs accept gzip and
+ * revalidate with If-None-Match like a browser cache unless {@code load.conditional=false};
+ * 304 answers count as successes.
+ * Any {@code spring.*} system property overrides the embedded defaults below, e.g.
+ * {@code -Dspring.threads.virtual.enabled=false} to measure the platform-thread mode.
+ *
+ * <p>Approver actions ({@code approve}, and {@code inbox} for the dashboard and pending
+ * list) call the services in-process, since the admin API sits behind Google OAuth, and so
+ * does {@code preview}, whose endpoints also require a login.
+ */
+public class RegistrationSeasonLoad {
+
+    private static final String DEFAULT_MIX = "browse=50,register=10,event=15,preview=15,approve=10";
+
+    private final ConfigurableApplicationContext context;
+    private final StubSmtpServer smtp;
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private final int threads = Integer.getInteger("load.threads", 32);
+    private final int durationSeconds = Integer.getInteger("load.duration", 60);
+    private final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+    private final int seededSocieties = Integer.getInteger("load.societies", 200);
+    private final LoadFixtures fixtures = new LoadFixtures(Integer.getInteger("load.roster", 150));
+    private final NavigableMap<Integer, String> mix = parseMix(System.getProperty("load.mix", DEFAULT_MIX));
+    private final boolean conditionalGets = Boolean.parseBoolean(System.getProperty("load.conditional", "true"));
+
+    private final List<Society> societies = new ArrayList<>();
+    private final List<AdminUser> approvers = new ArrayList<>();
+    private final Queue<PendingApproval> approvalQueue = new ConcurrentLinkedQueue<>();
+    // Shared by all simulated clients, i.e. a warm browser or proxy cache
+    private final Map<URI, String> etags = new ConcurrentHashMap<>();
+
+    private volatile LatencyRecorder recorder = new LatencyRecorder();
+
+    private RegistrationSeasonLoad(ConfigurableApplicationContext context, StubSmtpServer smtp) {
+        this.context = context;
+        this.smtp = smtp;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (StubSmtpServer smtp = new StubSmtpServer(Long.getLong("load.smtp-delay-ms", 0))) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(SmsUopApplication.class)
+                    .properties(embeddedProperties(smtp.getPort()))
+                    .run(args);
+            try {
+                new RegistrationSeasonLoad(context, smtp).run();
+            } finally {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, Object> embeddedProperties(int smtpPort) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("management.server.port", 0);
+        props.put("spring.datasource.url", "jdbc:h2:mem:sms_load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,MONTH,VALUE");
+        props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        props.put("spring.jpa.properties.hibernate.generate_statistics", true);
+        props.put("spring.mail.host", "localhost");
+        props.put("spring.mail.port", smtpPort);
+        props.put("spring.mail.properties.mail.smtp.from", "sms-noreply@pdn.ac.lk");
+        props.put("spring.security.oauth2.client.registration.google.client-id", "load-test");
+        props.put("spring.security.oauth2.client.registration.google.client-secret", "load-test");
+        props.put("logging.level.root", "WARN");
+        // create-drop starts by dropping tables that do not exist yet
+        props.put("logging.level.org.hibernate.tool.schema", "ERROR");
+        return props;
+    }
+
+    private void run() throws Exception {
+        seed();
+
+        System.out.printf("%nWarm-up: %ds, %d threads%n", warmupSeconds, threads);
+        drive(warmupSeconds);
+
+        Map<String, Double> queriesPerRequest = calibrateQueryCounts();
+
+        Statistics stats = statistics();
+        stats.clear();
+        long smtpBefore = smtp.getMessageCount();
+        recorder = new LatencyRecorder();
+
+        System.out.printf("Measuring: %ds, %d threads, mix %s%n", durationSeconds, threads, mix.values());
+        long started = System.nanoTime();
+        drive(durationSeconds);
+        double elapsed = (System.nanoTime() - started) / 1e9;
+        awaitAsyncMail();
+
+        Map<String, Map<String, Object>> endpoints = recorder.summarize(elapsed);
+        Map<String, Object> database = databaseSummary(stats, endpoints.get("TOTAL"), queriesPerRequest);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", elapsed);
+        report.put("threads", threads);
+        report.put("mix", mix.values());
+        report.put("rosterSize", Integer.getInteger("load.roster", 150));
+        report.put("endpoints", endpoints);
+        report.put("database", database);
+        report.put("emailsDelivered", smtp.getMessageCount() - smtpBefore);
+
+        print(endpoints, database, smtp.getMessageCount() - smtpBefore);
+        String reportPath = System.getProperty("load.report");
+        if (reportPath != null) {
+            File file = new File(reportPath);
+            file.getParentFile().mkdirs();
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+            System.out.println("Report written to " + file);
+
+            // Server-side view of the same run, for comparing against the client-side numbers
+            File scrape = new File(file.getParentFile(), "loadtest-metrics.prom");
+            String managementUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.management.port");
+            http.send(HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/prometheus")).GET().build(),
+                    HttpResponse.BodyHandlers.ofFile(scrape.toPath()));
+            System.out.println("Prometheus scrape written to " + scrape);
+        }
+    }
+
+    // --- Setup ---
+
+    private void seed() throws Exception {
+        approvers.addAll(context.getBean(AdminUserRepository.class).saveAll(fixtures.adminUsers()));
+        SocietyRepository societyRepository = context.getBean(SocietyRepository.class);
+        SocietyRegistrationRepository registrationRepository = context.getBean(SocietyRegistrationRepository.class);
+        for (int i = 0; i < seededSocieties; i++) {
+            Society society = societyRepository.save(fixtures.society());
+            registrationRepository.save(fixtures.approvedRegistration(society));
+            societies.add(society);
+        }
+        // Indexes were warmed against an empty database at startup
+        context.getBean(InMemoryIndexInitializer.class).start();
+    }
+
+    // --- Workload ---
+
+    private void drive(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    perform(pickOperation());
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 120L, TimeUnit.SECONDS);
+    }
+
+    private String pickOperation() {
+        int total = mix.lastKey();
+        return mix.higherEntry(ThreadLocalRandom.current().nextInt(total)).getValue();
+    }
+
+    private void perform(String operation) {
+        switch (operation) {
+            case "browse" -> browse();
+            case "register" -> register();
+            case "event" -> submitEvent();
+            case "preview" -> preview();
+            case "approve" -> approve();
+            case "inbox" -> inbox();
+            case "directory" -> get("GET /api/societies/active", "/api/societies/active");
+            case "prefill" -> prefill();
+            default -> throw new IllegalArgumentException("Unknown operation in load.mix: " + operation);
+        }
+    }
+
+    private void browse() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 60) {
+            int page = ThreadLocalRandom.current().nextInt(Math.max(1, societies.size() / 10));
+            get("GET /api/societies/public", "/api/societies/public?page=" + page + "&size=10");
+        } else if (roll < 85) {
+            Society society = randomSociety();
+            get("GET /api/societies/public/{id}", "/api/societies/public/" + society.getId());
+        } else {
+            get("GET /api/events/public/upcoming", "/api/events/public/upcoming?limit=5");
+        }
+    }
+
+    private void register() {
+        JsonNode body = post("POST /api/societies/register", "/api/societies/register", fixtures.registration());
+        if (body != null && body.hasNonNull("id")) {
+            approvalQueue.add(new PendingApproval(false, body.get("id").asLong(), 3));
+        }
+    }
+
+    private void submitEvent() {
+        JsonNode body = post("POST /api/events/request", "/api/events/request", fixtures.event(randomSociety()));
+        if (body != null && body.hasNonNull("id")) {
+            approvalQueue.add(new PendingApproval(true, body.get("id").asLong(), 4));
+        }
+    }
+
+    // Preview PDFs render in-process: the preview endpoints are not open to anonymous callers
+    private void preview() {
+        boolean registration = ThreadLocalRandom.current().nextBoolean();
+        String endpoint = registration ? "registration preview PDF (in-process)" : "event preview PDF (in-process)";
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            byte[] pdf = registration
+                    ? context.getBean(PDFService.class).generateRegistrationPreviewPDF(fixtures.registration())
+                    : context.getBean(EventPermissionService.class).generatePreviewPDF(fixtures.event(randomSociety()));
+            ok = pdf.length > 0;
+        } catch (IOException | RuntimeException e) {
+            ok = false;
+        }
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+    }
+
+    private void approve() {
+        PendingApproval pending = approvalQueue.poll();
+        if (pending == null) {
+            browse();
+            return;
+        }
+        ApprovalService approvalService = context.getBean(ApprovalService.class);
+        ApprovalDto dto = new ApprovalDto();
+        dto.setComment("Reviewed during load test");
+        AdminUser approver = approvers.get(ThreadLocalRandom.current().nextInt(approvers.size()));
+
+        String endpoint = pending.event() ? "approve event (in-process)" : "approve registration (in-process)";
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            if (pending.event()) {
+                approvalService.processEventPermissionApproval(pending.id(), dto, approver);
+            } else {
+                approvalService.processRegistrationApproval(pending.id(), dto, approver);
+            }
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+
+        if (ok && pending.remainingSteps() > 1) {
+            approvalQueue.add(new PendingApproval(pending.event(), pending.id(), pending.remainingSteps() - 1));
+        }
+    }
+
+    // Renewal form pre-fill for a seeded society; in-process because /api/renewals sits behind login
+    private void prefill() {
+        RenewalService renewalService = context.getBean(RenewalService.class);
+        String societyName = randomSociety().getSocietyName();
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            ok = renewalService.getLatestSocietyData(societyName).getPresidentName() != null;
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        recorder.record("renewal pre-fill (in-process)", System.nanoTime() - start, ok);
+    }
+
+    // Approver landing page: dashboard counts plus the pending list, in-process like approve()
+    private void inbox() {
+        AdminUser admin = approvers.get(ThreadLocalRandom.current().nextInt(approvers.size()));
+        AdminService adminService = context.getBean(AdminService.class);
+        ApprovalService approvalService = context.getBean(ApprovalService.class);
+
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            adminService.getDashboardStats(admin);
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        recorder.record("dashboard (in-process)", System.nanoTime() - start, ok);
+
+        start = System.nanoTime();
+        ok = true;
+        try {
+            approvalService.getPendingItemsForAdmin(admin);
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        recorder.record("pending inbox (in-process)", System.nanoTime() - start, ok);
+    }
+
+    private void get(String endpoint, String path) {
+        URI uri = URI.create(baseUrl + path);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").GET();
+        String etag = conditionalGets ? etags.get(uri) : null;
+        if (etag != null) request.header("If-None-Match", etag);
+        send(endpoint, request);
+    }
+
+    private JsonNode post(String endpoint, String path, Object payload) {
+        try {
+            byte[] json = mapper.writeValueAsBytes(payload);
+            return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            boolean ok = response.statusCode() / 100 == 2 || response.statusCode() == 304;
+            recorder.record(endpoint, System.nanoTime() - start, ok);
+            if (conditionalGets && response.statusCode() == 200) {
+                response.headers().firstValue("ETag").ifPresent(tag -> etags.put(response.request().uri(), tag));
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            boolean encoded = response.headers().firstValue("Content-Encoding").isPresent();
+            return ok && contentType.contains("json") && !encoded ? mapper.readTree(response.body()) : null;
+        } catch (Exception e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private Society randomSociety() {
+        return societies.get(ThreadLocalRandom.current().nextInt(societies.size()));
+    }
+
+    // --- Database accounting ---
+
+    /**
+     * Statements issued per request, measured one request at a time so the count can be
+     * attributed. Includes the lookups done by the async notification that follows.
+     */
+    private Map<String, Double> calibrateQueryCounts() throws InterruptedException {
+        int samples = 5;
+        Statistics stats = statistics();
+        Map<String, Double> perRequest = new LinkedHashMap<>();
+        for (String operation : new LinkedHashSet<>(mix.values())) {
+            awaitAsyncMail();
+            long before = stats.getPrepareStatementCount();
+            for (int i = 0; i < samples; i++) perform(operation);
+            awaitAsyncMail();
+            perRequest.put(operation, (stats.getPrepareStatementCount() - before) / (double) samples);
+        }
+        return perRequest;
+    }
+
+    private Map<String, Object> databaseSummary(Statistics stats, Map<String, Object> total,
+                                                Map<String, Double> queriesPerRequest) {
+        long requests = ((Number) total.get("requests")).longValue();
+        Map<String, Object> database = new LinkedHashMap<>();
+        database.put("statementsPrepared", stats.getPrepareStatementCount());
+        database.put("statementsPerRequest", requests == 0 ? 0 : Math.round(stats.getPrepareStatementCount() * 100.0 / requests) / 100.0);
+        database.put("statementsPerOperation", queriesPerRequest);
+        database.put("entityLoads", stats.getEntityLoadCount());
+        database.put("entityInserts", stats.getEntityInsertCount());
+        database.put("entityUpdates", stats.getEntityUpdateCount());
+        database.put("collectionFetches", stats.getCollectionFetchCount());
+        database.put("transactions", stats.getTransactionCount());
+
+        Map<String, Long> topQueries = new LinkedHashMap<>();
+        Arrays.stream(stats.getQueries())
+                .sorted(Comparator.comparingLong((String q) -> stats.getQueryStatistics(q).getExecutionCount()).reversed())
+                .limit(10)
+                .forEach(q -> topQueries.put(q, stats.getQueryStatistics(q).getExecutionCount()));
+        database.put("topQueries", topQueries);
+        return database;
+    }
+
+    private Statistics statistics() {
+        return context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void awaitAsyncMail() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        if (context.getBean("applicationTaskExecutor") instanceof ThreadPoolTaskExecutor executor) {
+            while (System.nanoTime() < deadline
+                    && (executor.getActiveCount() > 0 || !executor.getThreadPoolExecutor().getQueue().isEmpty())) {
+                Thread.sleep(50);
+            }
+            return;
+        }
+        // The virtual-thread executor has no queue to inspect; wait until deliveries stop
+        long quietMillis = 1000 + 2 * Long.getLong("load.smtp-delay-ms", 0);
+        long last = -1;
+        long stableSince = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            long delivered = smtp.getMessageCount();
+            if (delivered != last) {
+                last = delivered;
+                stableSince = System.nanoTime();
+            } else if (System.nanoTime() - stableSince > TimeUnit.MILLISECONDS.toNanos(quietMillis)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    // --- Output ---
+
+    private static void print(Map<String, Map<String, Object>> endpoints, Map<String, Object> database, long emails) {
+        System.out.println();
+        System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.forEach((endpoint, row) -> System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+                endpoint, row.get("requests"), row.get("errors"), row.get("throughputPerSec"),
+                row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs")));
+        System.out.println();
+        System.out.println("DB statements prepared: " + database.get("statementsPrepared")
+                + " (" + database.get("statementsPerRequest") + " per request)");
+        System.out.println("DB statements per operation: " + database.get("statementsPerOperation"));
+        System.out.println("Emails delivered to SMTP sink: " + emails);
+    }
+
+    private static NavigableMap<Integer, String> parseMix(String spec) {
+        NavigableMap<Integer, String> mix = new TreeMap<>();
+        int cumulative = 0;
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight <= 0) continue;
+            cumulative += weight;
+            mix.put(cumulative, kv[0].trim());
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("load.mix has no positive weights: " + spec);
+        return mix;
+    }
+
+    private record PendingApproval(boolean event, long id, int remainingSteps) {
+    }
+}
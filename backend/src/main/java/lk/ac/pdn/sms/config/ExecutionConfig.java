@@ -0,0 +1,54 @@
+package lk.ac.pdn.sms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Execution mode. By default Tomcat request handling and the scheduler run on the platform
+ * thread pools; spring.threads.virtual.enabled=true moves them onto virtual threads. Because
+ * virtual threads remove the natural cap that Tomcat's 200 worker threads used to put on
+ * database load, the pool is fronted by {@link ConcurrencyLimitedDataSource} whenever
+ * virtual threads are on.
+ */
+@Configuration
+@PropertySource("classpath:execution.properties")
+public class ExecutionConfig {
+
+    /**
+     * Jakarta Mail holds monitors around its socket I/O, which pins a virtual thread to its
+     * carrier for the whole SMTP exchange, so {@code @Async} mail stays on a platform pool
+     * unless app.async.virtual-threads is set.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnProperty(name = "app.async.virtual-threads", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) return bean;
+                boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+                if (!environment.getProperty("app.db-limiter.enabled", Boolean.class, virtualThreads)) return bean;
+
+                // Hikari leaves the size at -1 until the pool starts, then applies its default of 10
+                int maxConnections = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : 10;
+                int maxWaiting = environment.getProperty("app.db-limiter.max-waiting", Integer.class, 50 * maxConnections);
+                long acquireTimeoutMs = environment.getProperty("app.db-limiter.acquire-timeout-ms", Long.class, pool.getConnectionTimeout());
+                System.out.println("Database limiter: " + maxConnections + " connections, " + maxWaiting
+                        + " waiting, " + acquireTimeoutMs + " ms timeout");
+                return new ConcurrencyLimitedDataSource(pool, maxConnections, maxWaiting, acquireTimeoutMs);
+            }
+        };
+    }
+}
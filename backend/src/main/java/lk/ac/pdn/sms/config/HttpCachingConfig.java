@@ -0,0 +1,100 @@
+package lk.ac.pdn.sms.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lk.ac.pdn.sms.service.ResourceVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Conditional GET for the public society and venue APIs. The ETag comes from the in-memory
+ * {@link ResourceVersions} tokens and is checked before the controller runs, so a matching
+ * If-None-Match is answered with 304 without a query or serializing the body.
+ *
+ * <p>Endpoints that build their own ETag (upcoming events, the .ics feeds, the active
+ * society directory) and the PDF downloads are left alone; anything without a policy
+ * below passes straight through.
+ */
+@Configuration
+public class HttpCachingConfig implements WebMvcConfigurer {
+
+    private final ResourceVersions resourceVersions;
+    private final boolean enabled;
+    private final Map<String, Policy> policies;
+
+    public HttpCachingConfig(ResourceVersions resourceVersions,
+                             @Value("${app.http-cache.enabled:true}") boolean enabled,
+                             @Value("${app.http-cache.statistics-max-age-seconds:30}") long statisticsMaxAge) {
+        this.resourceVersions = resourceVersions;
+        this.enabled = enabled;
+
+        // Revalidate on every use: a 304 is cheap and a status change shows up at once
+        CacheControl revalidate = CacheControl.noCache().cachePublic();
+        Function<Map<String, String>, String> societies = vars -> "societies-" + resourceVersions.get(ResourceVersions.SOCIETIES);
+        Function<Map<String, String>, String> venues = vars -> "venues-" + resourceVersions.get(ResourceVersions.VENUES);
+
+        this.policies = Map.of(
+                "/api/societies/public", new Policy(revalidate, societies),
+                "/api/societies/public/{id}", new Policy(revalidate, this::societyTag),
+                "/api/societies/latest-data", new Policy(revalidate, societies),
+                // Counts come from AggregateCache and may lag by its TTL anyway, so a short max-age is enough
+                "/api/societies/statistics", new Policy(CacheControl.maxAge(statisticsMaxAge, TimeUnit.SECONDS).cachePublic(), null),
+                "/api/events/public/venues/bookings", new Policy(revalidate, venues),
+                "/api/events/public/venues/free-slots", new Policy(revalidate, venues));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!enabled) return;
+        registry.addInterceptor(new ConditionalGetInterceptor())
+                .addPathPatterns("/api/societies/**", "/api/events/public/**");
+    }
+
+    private String societyTag(Map<String, String> vars) {
+        String id = vars.get("id");
+        try {
+            return "society-" + id + "-" + resourceVersions.getSociety(Long.valueOf(id));
+        } catch (NumberFormatException e) {
+            // Let the controller reject it as usual
+            return null;
+        }
+    }
+
+    private record Policy(CacheControl cacheControl, Function<Map<String, String>, String> tag) {
+    }
+
+    private class ConditionalGetInterceptor implements HandlerInterceptor {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            String method = request.getMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) return true;
+
+            Policy policy = policies.get((String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            if (policy == null) return true;
+
+            response.setHeader(HttpHeaders.CACHE_CONTROL, policy.cacheControl().getHeaderValue());
+            if (policy.tag() == null) return true;
+
+            Map<String, String> vars = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            String tag = policy.tag().apply(vars != null ? vars : Map.of());
+            if (tag == null) return true;
+
+            // Read before the controller runs: a concurrent change can only make the body newer than its tag.
+            // checkNotModified sets the ETag header and, on a match, the 304 status.
+            return !new ServletWebRequest(request, response).checkNotModified("W/\"" + tag + "\"");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package lk.ac.pdn.sms.config;
+
+import lk.ac.pdn.sms.service.AdminReadModel;
+import lk.ac.pdn.sms.service.ApprovalLatencyAnalytics;
+import lk.ac.pdn.sms.service.CalendarFeedService;
+import lk.ac.pdn.sms.service.DuplicateSocietyIndex;
+import lk.ac.pdn.sms.service.MembershipIndex;
+import lk.ac.pdn.sms.service.OfficialCredentialIndex;
+import lk.ac.pdn.sms.service.SocietyDirectorySnapshot;
+import lk.ac.pdn.sms.service.SocietyNameIndex;
+import lk.ac.pdn.sms.service.SocietyProfileService;
+import lk.ac.pdn.sms.service.StatisticsRollupService;
+import lk.ac.pdn.sms.service.SubmissionExistenceFilter;
+import lk.ac.pdn.sms.service.TransitionJournal;
+import lk.ac.pdn.sms.service.UpcomingEventsService;
+import lk.ac.pdn.sms.service.VenueCalendarService;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the in-memory lookup structures before the web server starts accepting requests.
+ * As a command-line runner the load ran after Tomcat was already serving, and until it
+ * finished every society looked unknown and the cached reads came back empty. Lifecycle beans
+ * start in ascending phase order and the embedded web server starts in phase
+ * {@code DEFAULT_PHASE - 2048}, so loading in an earlier phase holds its start back.
+ */
+@Component
+public class InMemoryIndexInitializer implements SmartLifecycle {
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final VenueCalendarService venueCalendarService;
+    private final UpcomingEventsService upcomingEventsService;
+    private final CalendarFeedService calendarFeedService;
+    private final OfficialCredentialIndex officialCredentialIndex;
+    private final MembershipIndex membershipIndex;
+    private final SocietyDirectorySnapshot societyDirectorySnapshot;
+    private final SocietyNameIndex societyNameIndex;
+    private final DuplicateSocietyIndex duplicateSocietyIndex;
+    private final SubmissionExistenceFilter submissionExistenceFilter;
+    private final SocietyProfileService societyProfileService;
+    private final AdminReadModel adminReadModel;
+    private final TransitionJournal transitionJournal;
+    private final ApprovalLatencyAnalytics approvalLatencyAnalytics;
+    private final StatisticsRollupService statisticsRollupService;
+
+    private volatile boolean running;
+
+    public InMemoryIndexInitializer(VenueCalendarService venueCalendarService,
+                                    UpcomingEventsService upcomingEventsService,
+                                    CalendarFeedService calendarFeedService,
+                                    OfficialCredentialIndex officialCredentialIndex,
+                                    MembershipIndex membershipIndex,
+                                    SocietyDirectorySnapshot societyDirectorySnapshot,
+                                    SocietyNameIndex societyNameIndex,
+                                    DuplicateSocietyIndex duplicateSocietyIndex,
+                                    SubmissionExistenceFilter submissionExistenceFilter,
+                                    SocietyProfileService societyProfileService,
+                                    AdminReadModel adminReadModel,
+                                    TransitionJournal transitionJournal,
+                                    ApprovalLatencyAnalytics approvalLatencyAnalytics,
+                                    StatisticsRollupService statisticsRollupService) {
+        this.venueCalendarService = venueCalendarService;
+        this.upcomingEventsService = upcomingEventsService;
+        this.calendarFeedService = calendarFeedService;
+        this.officialCredentialIndex = officialCredentialIndex;
+        this.membershipIndex = membershipIndex;
+        this.societyDirectorySnapshot = societyDirectorySnapshot;
+        this.societyNameIndex = societyNameIndex;
+        this.duplicateSocietyIndex = duplicateSocietyIndex;
+        this.submissionExistenceFilter = submissionExistenceFilter;
+        this.societyProfileService = societyProfileService;
+        this.adminReadModel = adminReadModel;
+        this.transitionJournal = transitionJournal;
+        this.approvalLatencyAnalytics = approvalLatencyAnalytics;
+        this.statisticsRollupService = statisticsRollupService;
+    }
+
+    @Override
+    public void start() {
+        venueCalendarService.rebuild();
+        upcomingEventsService.rebuild();
+        calendarFeedService.rebuild();
+        officialCredentialIndex.rebuild();
+        membershipIndex.rebuild();
+        societyDirectorySnapshot.rebuild();
+        societyNameIndex.rebuild();
+        duplicateSocietyIndex.rebuild();
+        submissionExistenceFilter.rebuild();
+        societyProfileService.backfillMissing();
+        adminReadModel.rebuildIfStale();
+        statisticsRollupService.rebuildIfStale();
+        transitionJournal.seedIfEmpty();
+        approvalLatencyAnalytics.rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,44 @@
+package lk.ac.pdn.sms.config;
+
+import lk.ac.pdn.sms.jfr.RepositoryCallEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Wraps every Spring Data repository proxy so each call shows up as a
+ * {@link RepositoryCallEvent} in a Flight Recorder recording. When no recording is
+ * running the events are disabled and cost next to nothing.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+                                String repository = information.getRepositoryInterface().getSimpleName();
+                                proxyFactory.addAdvice(0, (MethodInterceptor) invocation -> {
+                                    RepositoryCallEvent event = RepositoryCallEvent.start();
+                                    boolean failed = true;
+                                    try {
+                                        Object result = invocation.proceed();
+                                        failed = false;
+                                        return result;
+                                    } finally {
+                                        event.finish(repository, invocation.getMethod().getName(), failed);
+                                    }
+                                });
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+}
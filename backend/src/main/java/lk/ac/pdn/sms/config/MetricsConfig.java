@@ -0,0 +1,16 @@
+package lk.ac.pdn.sms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Prometheus metrics at /actuator/prometheus on the management port (8081 on loopback by
+ * default; the public port does not serve actuator endpoints). Besides our own sms.* timers, Spring Boot
+ * publishes http.server.requests per endpoint, spring.data.repository.invocations per
+ * repository method, hikaricp.connections.* for the pool and executor.* for the async
+ * mail executor.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+}
@@ -0,0 +1,26 @@
+package lk.ac.pdn.sms.config;
+
+import lk.ac.pdn.sms.util.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feeds every statement Hibernate prepares into {@link QueryCounter}; the SQL itself is
+ * passed through untouched. {@link QueryBudgetFilter} turns the counts into per-request
+ * budgets.
+ */
+@Configuration
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatementInspector() {
+        StatementInspector inspector = sql -> {
+            QueryCounter.record(sql);
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,98 @@
+package lk.ac.pdn.sms.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lk.ac.pdn.sms.util.QueryCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request issues and flags requests that go over
+ * {@code app.query-budget.max-statements}. In "log" mode offenders are reported on stderr;
+ * in "fail" mode the statement that crosses the budget throws, which is meant for dev and
+ * CI runs. The same identical statement repeated {@code repeat-threshold} times is
+ * reported as a suspected N+1. With the dev or local profile active the count is also
+ * returned in an X-Query-Count header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    enum Mode { OFF, LOG, FAIL }
+
+    private final Mode mode;
+    private final int maxStatements;
+    private final int repeatThreshold;
+    private final boolean exposeHeader;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(@Value("${app.query-budget.mode:log}") String mode,
+                             @Value("${app.query-budget.max-statements:50}") int maxStatements,
+                             @Value("${app.query-budget.repeat-threshold:10}") int repeatThreshold,
+                             @Value("${app.query-budget.expose-header:#{null}}") Boolean exposeHeader,
+                             Environment environment,
+                             MeterRegistry meterRegistry) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.exposeHeader = exposeHeader != null ? exposeHeader : environment.matchesProfiles("dev | local");
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return mode == Mode.OFF;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        // The header has to be set after the handler ran, so the body is held back until then
+        ContentCachingResponseWrapper wrapper = exposeHeader ? new ContentCachingResponseWrapper(response) : null;
+        try (QueryCounter.Scope scope = QueryCounter.start(maxStatements, mode == Mode.FAIL)) {
+            try {
+                chain.doFilter(request, wrapper != null ? wrapper : response);
+            } finally {
+                report(request, scope);
+                if (wrapper != null) {
+                    wrapper.setHeader(HEADER, String.valueOf(scope.getCount()));
+                    wrapper.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("sms.request.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getCount());
+
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        if (scope.isOverBudget()) {
+            System.err.println("Query budget exceeded: " + endpoint + " issued " + scope.getCount()
+                    + " statements (budget " + scope.getBudget() + ")");
+        }
+        Map<String, Integer> repeated = scope.getRepeatedStatements(repeatThreshold);
+        repeated.forEach((sql, count) ->
+                System.err.println("Suspected N+1 in " + endpoint + ": " + count + "x " + sql));
+    }
+}
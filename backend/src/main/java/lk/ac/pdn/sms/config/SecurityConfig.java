@@ -9,10 +9,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 
 import java.util.Arrays;
@@ -28,10 +31,14 @@ public class SecurityConfig {
     @Value("${app.frontend-url:http://localhost:5173}")
     private String frontendUrl;
 
+    private final Environment environment;
+
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService,
-                          CustomOidcUserService customOidcUserService) {
+                          CustomOidcUserService customOidcUserService,
+                          Environment environment) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.customOidcUserService = customOidcUserService;
+        this.environment = environment;
     }
 
     @Bean
@@ -45,10 +52,13 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/societies/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/societies/renewal").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/events/request").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/events/public/**").permitAll()
                         .requestMatchers("/api/validation/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/oauth2/**").permitAll()
                         .requestMatchers("/error", "/favicon.ico").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(onManagementPort("/actuator/prometheus")).permitAll()
 
                         // Role Based Access
                         .requestMatchers("/api/admin/vc/**").hasRole("VICE_CHANCELLOR")
@@ -81,6 +91,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Matches only requests that arrived on the management port, so the scrape stays
+    // unauthenticated there but never on the public port, whatever the management settings
+    private RequestMatcher onManagementPort(String path) {
+        RequestMatcher pathMatcher = AntPathRequestMatcher.antMatcher(HttpMethod.GET, path);
+        return request -> pathMatcher.matches(request)
+                && String.valueOf(request.getLocalPort()).equals(environment.getProperty("local.management.port"))
+                && !String.valueOf(request.getLocalPort()).equals(environment.getProperty("local.server.port"));
+    }
+
     @Bean
     public AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler() {
         return (request, response, authentication) -> {
@@ -2,10 +2,26 @@ package lk.ac.pdn.sms.controller;
 
 import lk.ac.pdn.sms.dto.AdminUserManagementDto;
 import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.dto.ApprovalLatencyDto;
+import lk.ac.pdn.sms.dto.MembershipDto;
+import lk.ac.pdn.sms.dto.SocietyProfileDiffDto;
+import lk.ac.pdn.sms.dto.SocietyRenewalDto;
+import lk.ac.pdn.sms.dto.SocietyVersionDto;
+import lk.ac.pdn.sms.dto.StatisticsTrendDto;
 import lk.ac.pdn.sms.entity.ActivityLog;
 import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.ApplicationTransition;
 import lk.ac.pdn.sms.service.AdminService;
+import lk.ac.pdn.sms.service.ApprovalLatencyAnalytics;
 import lk.ac.pdn.sms.service.ApprovalService;
+import lk.ac.pdn.sms.service.MembershipIndex;
+import lk.ac.pdn.sms.service.AdminReadModel;
+import lk.ac.pdn.sms.service.SocietyHistoryService;
+import lk.ac.pdn.sms.service.SocietyNameIndex;
+import lk.ac.pdn.sms.service.SocietyProfileService;
+import lk.ac.pdn.sms.service.StatisticsRollupService;
+import lk.ac.pdn.sms.service.SubmissionExistenceFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +31,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -25,11 +42,35 @@ public class AdminController {
 
     private final AdminService adminService;
     private final ApprovalService approvalService;
+    private final MembershipIndex membershipIndex;
+    private final SocietyHistoryService societyHistoryService;
+    private final SocietyProfileService societyProfileService;
+    private final SocietyNameIndex societyNameIndex;
+    private final AdminReadModel adminReadModel;
+    private final ApprovalLatencyAnalytics approvalLatencyAnalytics;
+    private final StatisticsRollupService statisticsRollupService;
+    private final SubmissionExistenceFilter submissionExistenceFilter;
+
+    @Value("${app.memberships.max-official-posts:2}")
+    private int maxOfficialPosts;
 
     @Autowired
-    public AdminController(AdminService adminService, ApprovalService approvalService) {
+    public AdminController(AdminService adminService, ApprovalService approvalService, MembershipIndex membershipIndex,
+                           SocietyHistoryService societyHistoryService, SocietyProfileService societyProfileService,
+                           SocietyNameIndex societyNameIndex, AdminReadModel adminReadModel,
+                           ApprovalLatencyAnalytics approvalLatencyAnalytics,
+                           StatisticsRollupService statisticsRollupService,
+                           SubmissionExistenceFilter submissionExistenceFilter) {
         this.adminService = adminService;
         this.approvalService = approvalService;
+        this.membershipIndex = membershipIndex;
+        this.societyHistoryService = societyHistoryService;
+        this.societyProfileService = societyProfileService;
+        this.societyNameIndex = societyNameIndex;
+        this.adminReadModel = adminReadModel;
+        this.approvalLatencyAnalytics = approvalLatencyAnalytics;
+        this.statisticsRollupService = statisticsRollupService;
+        this.submissionExistenceFilter = submissionExistenceFilter;
     }
 
     // --- Core & Dashboard ---
@@ -55,15 +96,19 @@ public class AdminController {
 
     @PostMapping("/approve-registration/{id}")
     @PreAuthorize("hasAnyRole('DEAN', 'ASSISTANT_REGISTRAR', 'VICE_CHANCELLOR')")
-    public ResponseEntity<?> approveRegistration(@PathVariable Long id, @RequestBody ApprovalDto dto) {
-        approvalService.processRegistrationApproval(id, dto);
+    public ResponseEntity<?> approveRegistration(@PathVariable Long id, @RequestBody ApprovalDto dto,
+                                                  Authentication authentication) {
+        AdminUser admin = adminService.getAdminFromAuth(authentication);
+        approvalService.processRegistrationApproval(id, dto, admin);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/reject-registration/{id}")
     @PreAuthorize("hasAnyRole('DEAN', 'ASSISTANT_REGISTRAR', 'VICE_CHANCELLOR')")
-    public ResponseEntity<?> rejectRegistration(@PathVariable Long id, @RequestBody ApprovalDto dto) {
-        approvalService.processRegistrationApproval(id, dto);
+    public ResponseEntity<?> rejectRegistration(@PathVariable Long id, @RequestBody ApprovalDto dto,
+                                                Authentication authentication) {
+        AdminUser admin = adminService.getAdminFromAuth(authentication);
+        approvalService.processRegistrationApproval(id, dto, admin);
         return ResponseEntity.ok().build();
     }
 
@@ -77,6 +122,58 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAdminSocieties(year, status, pageable));
     }
 
+    @GetMapping("/societies/history")
+    public ResponseEntity<List<SocietyVersionDto>> getSocietyHistory(@RequestParam String societyName) {
+        return ResponseEntity.ok(societyHistoryService.getVersions(societyName));
+    }
+
+    // Without a year this is the current profile, served from the in-memory cache
+    @GetMapping("/societies/history/profile")
+    public ResponseEntity<SocietyRenewalDto> getSocietyProfile(@RequestParam String societyName,
+                                                               @RequestParam(required = false) Integer year) {
+        if (year == null) {
+            return ResponseEntity.ok(societyProfileService.getPrefill(societyNameIndex.canonicalName(societyName)));
+        }
+        return societyHistoryService.getProfile(societyName, year)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/societies/history/diff")
+    public ResponseEntity<SocietyProfileDiffDto> getSocietyProfileDiff(@RequestParam String societyName,
+                                                                       @RequestParam(required = false) Integer fromYear,
+                                                                       @RequestParam(required = false) Integer toYear,
+                                                                       @RequestParam(required = false) String section) {
+        return ResponseEntity.ok(societyHistoryService.diff(societyName, fromYear, toYear, section));
+    }
+
+    // --- Tab: Memberships ---
+
+    @GetMapping("/memberships")
+    public ResponseEntity<List<MembershipDto>> getStudentMemberships(@RequestParam String regNo) {
+        return ResponseEntity.ok(membershipIndex.getMemberships(regNo));
+    }
+
+    @GetMapping("/memberships/over-committed")
+    public ResponseEntity<Map<String, List<MembershipDto>>> getOverCommittedOfficials(
+            @RequestParam(required = false) Integer maxPosts) {
+        return ResponseEntity.ok(membershipIndex.findOverCommittedOfficials(maxPosts != null ? maxPosts : maxOfficialPosts));
+    }
+
+    // --- Tab: Statistics ---
+
+    // Applications per submission month and type, by current status; years default to the last two
+    @GetMapping("/statistics/trends")
+    public ResponseEntity<List<StatisticsTrendDto>> getStatisticsTrends(@RequestParam(required = false) Integer fromYear,
+                                                                        @RequestParam(required = false) Integer toYear,
+                                                                        @RequestParam(required = false) String type,
+                                                                        @RequestParam(required = false) String faculty,
+                                                                        @RequestParam(defaultValue = "false") boolean byFaculty) {
+        int to = toYear != null ? toYear : LocalDate.now().getYear();
+        int from = fromYear != null ? fromYear : to - 1;
+        return ResponseEntity.ok(statisticsRollupService.getTrends(from, to, type, faculty, byFaculty));
+    }
+
     // --- Tab: Activity Logs ---
 
     @GetMapping("/activity-logs")
@@ -120,11 +217,61 @@ public class AdminController {
         return ResponseEntity.ok(adminService.toggleUserActive(id));
     }
 
+    // Refills the inbox/monitoring read model from the application tables
+    @PostMapping("/ar/read-model/rebuild")
+    @PreAuthorize("hasRole('ASSISTANT_REGISTRAR')")
+    public ResponseEntity<Map<String, Object>> rebuildReadModel() {
+        long started = System.currentTimeMillis();
+        long rows = adminReadModel.rebuild();
+        return ResponseEntity.ok(Map.of("rows", rows, "tookMs", System.currentTimeMillis() - started));
+    }
+
+    // Recounts the statistics rollup from the application tables (also runs nightly)
+    @PostMapping("/ar/statistics/rebuild")
+    @PreAuthorize("hasRole('ASSISTANT_REGISTRAR')")
+    public ResponseEntity<Map<String, Object>> rebuildStatistics() {
+        long started = System.currentTimeMillis();
+        long cells = statisticsRollupService.rebuild();
+        return ResponseEntity.ok(Map.of("cells", cells, "tookMs", System.currentTimeMillis() - started));
+    }
+
+    // Reloads the submission Bloom filters, e.g. after societies or renewals were changed outside the app
+    @PostMapping("/ar/existence-filter/rebuild")
+    @PreAuthorize("hasRole('ASSISTANT_REGISTRAR')")
+    public ResponseEntity<Map<String, Object>> rebuildExistenceFilter() {
+        long started = System.currentTimeMillis();
+        submissionExistenceFilter.rebuild();
+        return ResponseEntity.ok(Map.of("tookMs", System.currentTimeMillis() - started));
+    }
+
     // --- Tab: Monitoring (Student Service Only) ---
 
+    // Applications per status and time spent at each approval stage, replayed from the transition journal
+    @GetMapping("/ss/workflow/statistics")
+    @PreAuthorize("hasRole('STUDENT_SERVICE')")
+    public ResponseEntity<Map<String, Object>> getWorkflowStatistics() {
+        return ResponseEntity.ok(adminService.getWorkflowStatistics());
+    }
+
+    // p50/p90/p99 wait per type and stage, optionally split by faculty and/or approver (groupBy=faculty,approver)
+    @GetMapping("/ss/approval-latency")
+    @PreAuthorize("hasRole('STUDENT_SERVICE')")
+    public ResponseEntity<List<ApprovalLatencyDto>> getApprovalLatency(@RequestParam(required = false) String groupBy,
+                                                                       @RequestParam(required = false) String type,
+                                                                       @RequestParam(required = false) String faculty,
+                                                                       @RequestParam(required = false) String approver) {
+        return ResponseEntity.ok(approvalLatencyAnalytics.getLatency(groupBy, type, faculty, approver));
+    }
+
     @GetMapping("/ss/monitoring-applications")
     @PreAuthorize("hasRole('STUDENT_SERVICE')")
     public ResponseEntity<List<ApprovalDto>> getMonitoringApplications() {
         return ResponseEntity.ok(approvalService.getMonitoringApplications());
     }
-}
\ No newline at end of file
+
+    // Every submission, approval and rejection of one application, oldest first; type is registration, renewal or event
+    @GetMapping("/workflow/{type}/{id}/timeline")
+    public ResponseEntity<List<ApplicationTransition>> getApplicationTimeline(@PathVariable String type, @PathVariable Long id) {
+        return ResponseEntity.ok(adminService.getApplicationTimeline(type, id));
+    }
+}
@@ -2,11 +2,18 @@ package lk.ac.pdn.sms.controller;
 
 import lk.ac.pdn.sms.dto.EventPermissionDto;
 import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.dto.VenueBookingDto;
+import lk.ac.pdn.sms.dto.VenueSlotDto;
 import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.service.CalendarFeedService;
 import lk.ac.pdn.sms.service.EventPermissionService;
+import lk.ac.pdn.sms.service.UpcomingEventsService;
+import lk.ac.pdn.sms.service.VenueCalendarService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +22,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.security.Principal;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @RestController
@@ -22,9 +31,20 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:5173")
 public class EventPermissionController {
 
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
     @Autowired
     private EventPermissionService eventService;
 
+    @Autowired
+    private VenueCalendarService venueCalendarService;
+
+    @Autowired
+    private UpcomingEventsService upcomingEventsService;
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
     @PostMapping("/request")
     public ResponseEntity<EventPermission> requestPermission(@Valid @RequestBody EventPermissionDto dto) {
         return ResponseEntity.ok(eventService.submitRequest(dto));
@@ -89,7 +109,54 @@ public class EventPermissionController {
     }
 
     @GetMapping("/public/upcoming")
-    public ResponseEntity<List<EventPermission>> getUpcomingEvents(@RequestParam(defaultValue = "5") int limit) {
-        return ResponseEntity.ok(eventService.getUpcomingEvents(limit));
+    public ResponseEntity<List<UpcomingEventsService.UpcomingEvent>> getUpcomingEvents(@RequestParam(defaultValue = "5") int limit) {
+        // ResponseEntity ETags are checked against If-None-Match and answered with 304 without a body
+        return ResponseEntity.ok()
+                .eTag(upcomingEventsService.getETag(limit))
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(eventService.getUpcomingEvents(limit));
+    }
+
+    // Dates and times are bound by Spring, so a malformed one is a 400 rather than a 500
+    @GetMapping("/public/venues/bookings")
+    public ResponseEntity<List<VenueBookingDto>> getVenueBookings(
+            @RequestParam String place,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime timeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime timeTo) {
+        return ResponseEntity.ok(venueCalendarService.getBookings(place, date, timeFrom, timeTo));
+    }
+
+    @GetMapping("/public/venues/free-slots")
+    public ResponseEntity<List<VenueSlotDto>> getFreeSlots(
+            @RequestParam String place,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(venueCalendarService.getFreeSlots(place, date));
+    }
+
+    // --- iCalendar subscriptions (conditional GET via ETag / If-Modified-Since) ---
+
+    @GetMapping("/public/calendar.ics")
+    public ResponseEntity<byte[]> getCampusCalendar() {
+        return calendarResponse(calendarFeedService.getCampusFeed());
+    }
+
+    @GetMapping("/public/calendar/faculty.ics")
+    public ResponseEntity<byte[]> getFacultyCalendar(@RequestParam String faculty) {
+        return calendarResponse(calendarFeedService.getFacultyFeed(faculty));
+    }
+
+    @GetMapping("/public/calendar/society.ics")
+    public ResponseEntity<byte[]> getSocietyCalendar(@RequestParam String society) {
+        return calendarResponse(calendarFeedService.getSocietyFeed(society));
+    }
+
+    private ResponseEntity<byte[]> calendarResponse(CalendarFeedService.Feed feed) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(feed.body());
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,10 @@ package lk.ac.pdn.sms.controller;
 
 import lk.ac.pdn.sms.dto.SocietyRenewalDto;
 import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.dto.RosterDiffDto;
 import lk.ac.pdn.sms.entity.SocietyRenewal;
 import lk.ac.pdn.sms.service.RenewalService;
+import lk.ac.pdn.sms.service.RosterDiffService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,9 @@ public class RenewalController {
     @Autowired
     private RenewalService renewalService;
 
+    @Autowired
+    private RosterDiffService rosterDiffService;
+
     @PostMapping("/submit")
     public ResponseEntity<SocietyRenewal> submitRenewal(@Valid @RequestBody SocietyRenewalDto renewalDto) {
         SocietyRenewal renewal = renewalService.submitRenewal(renewalDto);
@@ -77,6 +82,13 @@ public class RenewalController {
         return ResponseEntity.ok(renewal);
     }
 
+    // Who joined, left or was renamed since the society's last approved profile
+    @GetMapping("/admin/{id}/roster-diff")
+    @PreAuthorize("hasRole('DEAN') or hasRole('ASSISTANT_REGISTRAR') or hasRole('VICE_CHANCELLOR')")
+    public ResponseEntity<RosterDiffDto> getRosterDiff(@PathVariable Long id) {
+        return ResponseEntity.ok(rosterDiffService.diffRenewal(id));
+    }
+
     @PostMapping("/admin/approve/{id}")
     @PreAuthorize("hasRole('DEAN') or hasRole('ASSISTANT_REGISTRAR') or hasRole('VICE_CHANCELLOR')")
     public ResponseEntity<SocietyRenewal> approveRenewal(
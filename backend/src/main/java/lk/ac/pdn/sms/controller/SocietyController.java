@@ -1,33 +1,66 @@
 package lk.ac.pdn.sms.controller;
 
+import lk.ac.pdn.sms.dto.DuplicateMatchDto;
+import lk.ac.pdn.sms.dto.RegistrationSubmissionDto;
 import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
+import lk.ac.pdn.sms.dto.SocietySuggestionDto;
 import lk.ac.pdn.sms.entity.Society;
 import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.service.DuplicateSocietyIndex;
+import lk.ac.pdn.sms.service.SocietyDirectorySnapshot;
+import lk.ac.pdn.sms.service.SocietyNameIndex;
 import lk.ac.pdn.sms.service.SocietyService;
 import lk.ac.pdn.sms.service.PDFService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/societies")
 @CrossOrigin(origins = "http://localhost:5173")
 public class SocietyController {
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     @Autowired
     private SocietyService societyService;
 
     @Autowired
     private PDFService pdfService;
 
+    @Autowired
+    private SocietyDirectorySnapshot societyDirectorySnapshot;
+
+    @Autowired
+    private SocietyNameIndex societyNameIndex;
+
+    @Autowired
+    private DuplicateSocietyIndex duplicateSocietyIndex;
+
+    // Below this, writing from memory is cheaper than the sendfile round trip
+    @Value("${app.directory.sendfile-min-bytes:49152}")
+    private int sendfileMinBytes;
+
     @GetMapping("/public")
     public ResponseEntity<Page<Society>> getAllSocieties(
             @RequestParam(defaultValue = "0") int page,
@@ -48,9 +81,8 @@ public class SocietyController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<SocietyRegistration> registerSociety(@Valid @RequestBody SocietyRegistrationDto registrationDto) {
-        SocietyRegistration registration = societyService.registerSociety(registrationDto);
-        return ResponseEntity.ok(registration);
+    public ResponseEntity<RegistrationSubmissionDto> registerSociety(@Valid @RequestBody SocietyRegistrationDto registrationDto) {
+        return ResponseEntity.ok(societyService.registerSociety(registrationDto));
     }
 
     @PostMapping("/preview-pdf")
@@ -67,10 +99,64 @@ public class SocietyController {
         }
     }
 
+    // Served from the pre-rendered snapshot: no query, no serialization, gzip when accepted
     @GetMapping("/active")
-    public ResponseEntity<List<Society>> getActiveSocieties() {
-        List<Society> societies = societyService.getActiveSocieties();
-        return ResponseEntity.ok(societies);
+    public void getActiveSocieties(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        SocietyDirectorySnapshot.Snapshot snapshot = societyDirectorySnapshot.get();
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePublic().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (new ServletWebRequest(request, response).checkNotModified(gzip ? snapshot.gzipEtag() : snapshot.etag())) {
+            return;
+        }
+
+        byte[] body = gzip ? snapshot.gzip() : snapshot.json();
+        Path file = gzip ? snapshot.gzipFile() : snapshot.jsonFile();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(body.length);
+        if ("HEAD".equals(request.getMethod())) return;
+
+        // Tomcat then copies the file to the socket itself; not possible if a filter buffers the body
+        if (file != null && body.length >= sendfileMinBytes
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                && WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) == null) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, (long) body.length);
+            return;
+        }
+        response.getOutputStream().write(body);
+    }
+
+    // Accept-Encoding per RFC 9110: "gzip;q=0" refuses gzip, and "*" covers it when gzip is not listed
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        Double gzip = null;
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0; // A weight we cannot read is not an acceptance
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        if (gzip != null) return gzip > 0;
+        return wildcard != null && wildcard > 0;
     }
 
     @GetMapping("/statistics")
@@ -79,6 +165,22 @@ public class SocietyController {
         return ResponseEntity.ok(stats);
     }
 
+    // Name suggestions for the renewal and event forms, answered from memory
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SocietySuggestionDto>> autocompleteSocietyNames(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(societyNameIndex.suggest(query, limit));
+    }
+
+    // Lets the registration form warn about similar societies before submitting
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicateMatchDto>> findPossibleDuplicates(
+            @RequestParam String societyName,
+            @RequestParam(required = false) String aims) {
+        return ResponseEntity.ok(duplicateSocietyIndex.findDuplicates(societyName, aims, null));
+    }
+
     @GetMapping("/latest-data")
     public ResponseEntity<Society> getLatestSocietyData(@RequestParam String societyName) {
         Society society = societyService.getLatestSocietyData(societyName);
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -22,6 +23,7 @@ public class ApprovalDto {
     private String faculty;
     private LocalDateTime submittedDate;
     private String status;
+    private List<DuplicateMatchDto> possibleDuplicates; // registrations only
 
     // --- Fields for Actions (Approve/Reject) ---
     private Long applicationId;
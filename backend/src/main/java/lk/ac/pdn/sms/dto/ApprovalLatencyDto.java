@@ -0,0 +1,23 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalLatencyDto {
+    private String applicationType; // REGISTRATION, RENEWAL or EVENT
+    private String stage;           // The status the applications waited in, e.g. PENDING_AR
+    private String faculty;         // Null unless grouped by faculty
+    private String approver;        // Null unless grouped by approver
+    private long count;
+    private double p50Hours;
+    private double p90Hours;
+    private double p99Hours;
+    private double maxHours;
+    private Map<String, Long> histogram; // Band upper bound ("1h", "1d", ... "30d", "more") -> waits that fell in the band
+}
@@ -0,0 +1,17 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateMatchDto {
+    private String source; // "society" or "registration" (still in the approval workflow)
+    private Long id;
+    private String societyName;
+    private Integer year;
+    private String status;
+    private double score; // 0..1, 1 = same name after normalization
+}
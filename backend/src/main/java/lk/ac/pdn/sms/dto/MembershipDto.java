@@ -0,0 +1,16 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipDto {
+    private String regNo; // Normalized form, e.g. S19123
+    private Long societyId;
+    private String societyName;
+    private String role;
+    private boolean official;
+}
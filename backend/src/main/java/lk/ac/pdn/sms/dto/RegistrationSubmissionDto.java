@@ -0,0 +1,19 @@
+package lk.ac.pdn.sms.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Response to a registration submission: the saved registration's fields, plus the near-duplicates found for it
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationSubmissionDto {
+    @JsonUnwrapped
+    private SocietyRegistration registration;
+    private List<DuplicateMatchDto> possibleDuplicates; // Advisory; the submission is saved either way
+}
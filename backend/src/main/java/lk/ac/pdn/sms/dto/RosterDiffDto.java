@@ -0,0 +1,50 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterDiffDto {
+    private Long renewalId;
+    private String societyName;
+    private Integer year;
+    // Year of the approved profile compared against; null when the society has none
+    private Integer baselineYear;
+    private RosterChanges committee;
+    private RosterChanges members;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RosterChanges {
+        private int previousCount;
+        private int currentCount;
+        private int unchanged;
+        private List<Entry> added;
+        private List<Entry> removed;
+        // Same registration number, different name: usually a typo fixed or introduced
+        private List<Renamed> renamed;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String regNo;
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Renamed {
+        private String regNo;
+        private String previousName;
+        private String name;
+    }
+}
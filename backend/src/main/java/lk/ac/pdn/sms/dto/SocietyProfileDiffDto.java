@@ -0,0 +1,31 @@
+package lk.ac.pdn.sms.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocietyProfileDiffDto {
+    private String societyName;
+    private Integer fromYear;
+    private Integer toYear;
+    private List<FieldChange> changes;
+    // Roster entries (advisory board, committee, members) keyed by list name
+    private Map<String, List<JsonNode>> added;
+    private Map<String, List<JsonNode>> removed;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChange {
+        private String field;
+        private JsonNode from;
+        private JsonNode to;
+    }
+}
@@ -0,0 +1,15 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocietySuggestionDto {
+    private String societyName;
+    private String faculty;
+    private String status;
+    private Integer year;
+}
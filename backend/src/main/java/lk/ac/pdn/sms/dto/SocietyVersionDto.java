@@ -0,0 +1,22 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocietyVersionDto {
+    private Integer version;
+    private Integer year;
+    private String source; // REGISTRATION or RENEWAL
+    private Long sourceId;
+    private LocalDateTime approvedDate;
+    private boolean keyframe;
+    private List<String> changedFields;
+    private int storedBytes;
+}
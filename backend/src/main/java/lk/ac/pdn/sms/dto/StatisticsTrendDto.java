@@ -0,0 +1,19 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsTrendDto {
+    private int year;
+    private int month;              // Month of submission, 0 when unknown
+    private String applicationType; // REGISTRATION, RENEWAL or EVENT
+    private String faculty;         // Null unless split by faculty
+    private long total;
+    private Map<String, Long> byStatus; // Current status -> applications submitted that month
+}
@@ -0,0 +1,25 @@
+package lk.ac.pdn.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueBookingDto {
+    private Long eventId;
+    private String eventName;
+    private String societyName;
+    private String place;
+    private LocalDate eventDate;
+    private LocalTime timeFrom;
+    private LocalTime timeTo;
+    private String status;
+
+    // True once the Premises Officer has cleared the venue (PENDING_AR onwards)
+    private boolean confirmed;
+}
@@ -0,0 +1,74 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row per registration, renewal or event request, flattened to what the admin inbox,
+ * monitoring tab and dashboard show. Written alongside the application itself and never
+ * read by the approval workflow, so admin reads stay off the normalized tables.
+ */
+@Entity
+@Table(name = "admin_application_view",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"application_type", "application_id"})
+    },
+    indexes = {
+        @Index(name = "idx_admin_application_view_status_faculty", columnList = "status, faculty")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminApplicationView {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Declaration order is the order the inbox lists them in
+    public enum Type {
+        REGISTRATION, RENEWAL, EVENT
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "application_type", nullable = false, length = 20)
+    private Type applicationType;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "society_name")
+    private String societyName;
+
+    @Column(name = "event_name")
+    private String eventName;
+
+    @Column(name = "applicant_name")
+    private String applicantName;
+
+    private String faculty;
+
+    private Integer year;
+
+    // Registration aims, for the duplicate check shown in the inbox
+    @Column(columnDefinition = "TEXT")
+    private String aims;
+
+    @Column(nullable = false, length = 30)
+    private String status;
+
+    @Column(name = "submitted_date")
+    private LocalDateTime submittedDate;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,69 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the append-only journal of workflow transitions: an application was submitted,
+ * approved at a stage or rejected. Rows are never updated; the id gives the replay order.
+ */
+@Entity
+@Table(name = "application_transitions", indexes = {
+    @Index(name = "idx_application_transitions_application", columnList = "application_type, application_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTransition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    public enum ApplicationType {
+        REGISTRATION, RENEWAL, EVENT
+    }
+
+    public enum Action {
+        SUBMITTED, APPROVED, REJECTED
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "application_type", nullable = false, length = 20)
+    private ApplicationType applicationType;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Action action;
+
+    // Null for a submission
+    @Column(name = "from_status", length = 30)
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false, length = 30)
+    private String toStatus;
+
+    // Approver email or role, or the applicant's email for a submission
+    private String actor;
+
+    private String faculty;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // When the row was written; differs from occurredAt only for entries backfilled from the application tables
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        recordedAt = LocalDateTime.now();
+        if (occurredAt == null) occurredAt = recordedAt;
+    }
+}
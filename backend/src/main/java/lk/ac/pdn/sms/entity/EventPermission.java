@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "event_permissions")
+@Table(name = "event_permissions",
+    indexes = {
+        @Index(name = "idx_event_permissions_date", columnList = "event_date")
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
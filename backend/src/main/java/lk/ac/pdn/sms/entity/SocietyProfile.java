@@ -0,0 +1,52 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model holding the latest VC-approved registration or renewal of a society, already
+ * shaped as the renewal form pre-fill (officials, bank, advisory board and rosters) in JSON.
+ */
+@Entity
+@Table(name = "society_profiles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocietyProfile {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "society_name", nullable = false, unique = true)
+    private String societyName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 20)
+    private Source sourceType;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "approved_date")
+    private LocalDateTime approvedDate;
+
+    @Column(name = "prefill_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String prefillJson;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Source {
+        REGISTRATION, RENEWAL
+    }
+}
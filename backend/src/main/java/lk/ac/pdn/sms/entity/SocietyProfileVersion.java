@@ -0,0 +1,59 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One approved version of a society's profile, stored as a {@code JsonDelta} against the
+ * version before it. Keyframes hold the delta against an empty profile, i.e. the full
+ * document, so reconstruction never replays more than the keyframe interval.
+ */
+@Entity
+@Table(name = "society_profile_versions", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"society_name", "version"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocietyProfileVersion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "society_name", nullable = false)
+    private String societyName;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 20)
+    private SocietyProfile.Source sourceType;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "approved_date")
+    private LocalDateTime approvedDate;
+
+    @Column(nullable = false)
+    private Boolean keyframe;
+
+    @Column(name = "delta_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String deltaJson;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
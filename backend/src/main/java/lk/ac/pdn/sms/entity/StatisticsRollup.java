@@ -0,0 +1,51 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One cell of the application statistics cube: how many applications of a type, submitted in
+ * a given year and month from a faculty, are currently in a status. Every application is in
+ * exactly one cell; a stage change moves it from one status's cell to the next.
+ */
+@Entity
+@Table(name = "statistics_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_statistics_rollup_cell",
+                columnNames = {"year", "month", "faculty", "application_type", "status"})
+    },
+    indexes = {
+        @Index(name = "idx_statistics_rollup_type_year", columnList = "application_type, year")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Registrations and renewals use their own year; event requests the year they were submitted
+    @Column(nullable = false)
+    private Integer year;
+
+    // Month of submission, 1-12; 0 when the submission date is unknown
+    @Column(nullable = false)
+    private Integer month;
+
+    // Empty rather than null, so the unique key also covers applications without a faculty
+    @Column(nullable = false)
+    private String faculty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "application_type", nullable = false, length = 20)
+    private ApplicationTransition.ApplicationType applicationType;
+
+    @Column(nullable = false, length = 30)
+    private String status;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount;
+}
@@ -0,0 +1,41 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A projection's state after applying every journal entry up to {@code lastTransitionId}, so a
+ * replay only has to apply the entries after it. One row per projection, overwritten.
+ */
+@Entity
+@Table(name = "transition_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransitionSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String projection;
+
+    @Column(name = "last_transition_id", nullable = false)
+    private Long lastTransitionId;
+
+    @Column(name = "state_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String stateJson;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package lk.ac.pdn.sms.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One row per venue and day that a booking was ever checked for. Claiming the row locks it
+ * until the claiming transaction ends, which serializes venue checks for that day across
+ * requests and application instances.
+ */
+@Entity
+@Table(name = "venue_day_locks",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_venue_day_lock", columnNames = {"venue", "event_date"})
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueDayLock {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Normalized venue name, as in the venue calendar
+    @Column(nullable = false)
+    private String venue;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    // Bumped by every claim so the claim is always a real row write
+    @Column(nullable = false)
+    private Long claims;
+}
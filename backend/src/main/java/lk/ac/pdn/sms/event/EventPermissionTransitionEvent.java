@@ -0,0 +1,12 @@
+package lk.ac.pdn.sms.event;
+
+import lk.ac.pdn.sms.entity.EventPermission;
+
+/**
+ * An event request was submitted ({@code fromStatus} is null) or moved to another stage.
+ * Published right after the request is saved, inside its transaction.
+ */
+public record EventPermissionTransitionEvent(EventPermission event,
+                                             EventPermission.EventStatus fromStatus,
+                                             String actor) {
+}
@@ -0,0 +1,17 @@
+package lk.ac.pdn.sms.event;
+
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+
+/**
+ * A registration was submitted ({@code fromStatus} is null) or moved to another stage.
+ * Published right after the registration is saved, inside its transaction.
+ */
+public record RegistrationTransitionEvent(SocietyRegistration registration,
+                                          SocietyRegistration.ApprovalStage fromStatus,
+                                          String actor) {
+
+    public boolean isApproval() {
+        return registration.getStatus() == SocietyRegistration.ApprovalStage.APPROVED
+                && fromStatus != SocietyRegistration.ApprovalStage.APPROVED;
+    }
+}
@@ -0,0 +1,21 @@
+package lk.ac.pdn.sms.event;
+
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+
+/**
+ * A renewal was submitted ({@code fromStatus} is null) or moved to another stage.
+ * Published right after the renewal is saved, inside its transaction.
+ */
+public record RenewalTransitionEvent(SocietyRenewal renewal,
+                                     SocietyRenewal.RenewalStatus fromStatus,
+                                     String actor) {
+
+    public boolean isSubmission() {
+        return fromStatus == null;
+    }
+
+    public boolean isApproval() {
+        return renewal.getStatus() == SocietyRenewal.RenewalStatus.APPROVED
+                && fromStatus != SocietyRenewal.RenewalStatus.APPROVED;
+    }
+}
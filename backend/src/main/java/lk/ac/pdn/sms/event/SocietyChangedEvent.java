@@ -0,0 +1,36 @@
+package lk.ac.pdn.sms.event;
+
+import lk.ac.pdn.sms.entity.RegistrationCommitteeMember;
+import lk.ac.pdn.sms.entity.RegistrationGeneralMember;
+import lk.ac.pdn.sms.entity.RenewalCommitteeMember;
+import lk.ac.pdn.sms.entity.RenewalSocietyMember;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A society was created or updated by an approval. Carries the registration numbers of the
+ * approved application's rosters, read while the transaction is still open; a null roster
+ * means the application did not carry one.
+ */
+public record SocietyChangedEvent(Society society, List<String> committeeRegNos, List<String> memberRegNos) {
+
+    public static SocietyChangedEvent registrationApproved(Society society, SocietyRegistration reg) {
+        return new SocietyChangedEvent(society,
+                regNos(reg.getCommitteeMember(), RegistrationCommitteeMember::getRegNo),
+                regNos(reg.getMember(), RegistrationGeneralMember::getRegNo));
+    }
+
+    public static SocietyChangedEvent renewalApproved(Society society, SocietyRenewal renewal) {
+        return new SocietyChangedEvent(society,
+                regNos(renewal.getCommitteeMember(), RenewalCommitteeMember::getRegNo),
+                regNos(renewal.getMember(), RenewalSocietyMember::getRegNo));
+    }
+
+    private static <T> List<String> regNos(List<T> rows, Function<T, String> regNo) {
+        return rows == null ? null : rows.stream().map(regNo).toList();
+    }
+}
@@ -0,0 +1,35 @@
+package lk.ac.pdn.sms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("lk.ac.pdn.sms.ActivityLog")
+@Label("Activity Log Write")
+@Category({"SMS", "Side Effects"})
+@Description("Writing one audit entry to the activity log")
+public class ActivityLogEvent extends Event {
+
+    @Label("Action")
+    String action;
+
+    @Label("Target")
+    String target;
+
+    public static ActivityLogEvent start() {
+        ActivityLogEvent event = new ActivityLogEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String action, String target) {
+        end();
+        if (shouldCommit()) {
+            this.action = action;
+            this.target = target;
+            commit();
+        }
+    }
+}
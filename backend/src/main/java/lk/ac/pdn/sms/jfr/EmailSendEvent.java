@@ -0,0 +1,41 @@
+package lk.ac.pdn.sms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("lk.ac.pdn.sms.EmailSend")
+@Label("Email Send")
+@Category({"SMS", "Side Effects"})
+@Description("Handing one notification email to the SMTP server")
+public class EmailSendEvent extends Event {
+
+    @Label("Subject")
+    String subject;
+
+    // Only the domain, so recordings can be shared without student addresses
+    @Label("Recipient Domain")
+    String recipientDomain;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static EmailSendEvent start() {
+        EmailSendEvent event = new EmailSendEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String to, String subject, String outcome) {
+        end();
+        if (shouldCommit()) {
+            int at = to != null ? to.lastIndexOf('@') : -1;
+            this.recipientDomain = at >= 0 ? to.substring(at + 1) : null;
+            this.subject = subject;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
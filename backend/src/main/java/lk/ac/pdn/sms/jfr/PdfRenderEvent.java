@@ -0,0 +1,35 @@
+package lk.ac.pdn.sms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("lk.ac.pdn.sms.PdfRender")
+@Label("PDF Render")
+@Category({"SMS", "Side Effects"})
+@Description("Rendering one application PDF")
+public class PdfRenderEvent extends Event {
+
+    @Label("Document")
+    String document;
+
+    @Label("Bytes")
+    int bytes;
+
+    public static PdfRenderEvent start() {
+        PdfRenderEvent event = new PdfRenderEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String document, byte[] rendered) {
+        end();
+        if (shouldCommit()) {
+            this.document = document;
+            this.bytes = rendered != null ? rendered.length : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package lk.ac.pdn.sms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("lk.ac.pdn.sms.RepositoryCall")
+@Label("Repository Call")
+@Category({"SMS", "Database"})
+@Description("One Spring Data repository method invocation, including flushes it triggers")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+
+    public static RepositoryCallEvent start() {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String repository, String method, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package lk.ac.pdn.sms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One approval step from load to save. Email, activity-log and repository events recorded
+ * on the same thread fall inside its time span, so a recording shows where the step's
+ * time went.
+ */
+@Name("lk.ac.pdn.sms.WorkflowTransition")
+@Label("Workflow Transition")
+@Category({"SMS", "Workflow"})
+@Description("An approve or reject action on a registration, renewal or event permission")
+public class WorkflowTransitionEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Entity Id")
+    long entityId;
+
+    @Label("From Stage")
+    String fromStage;
+
+    @Label("To Stage")
+    String toStage;
+
+    public static WorkflowTransitionEvent start(String entityType, Long entityId) {
+        WorkflowTransitionEvent event = new WorkflowTransitionEvent();
+        event.begin();
+        event.entityType = entityType;
+        event.entityId = entityId != null ? entityId : 0L;
+        return event;
+    }
+
+    public void finish(Object fromStage, Object toStage) {
+        end();
+        if (shouldCommit()) {
+            this.fromStage = String.valueOf(fromStage);
+            this.toStage = String.valueOf(toStage);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.AdminApplicationView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AdminApplicationViewRepository extends JpaRepository<AdminApplicationView, Long> {
+
+    Optional<AdminApplicationView> findByApplicationTypeAndApplicationId(AdminApplicationView.Type applicationType, Long applicationId);
+
+    List<AdminApplicationView> findByStatus(String status);
+
+    List<AdminApplicationView> findByStatusAndFaculty(String status, String faculty);
+
+    long countByStatus(String status);
+
+    long countByStatusAndFaculty(String status, String faculty);
+}
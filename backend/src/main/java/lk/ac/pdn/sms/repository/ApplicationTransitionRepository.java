@@ -0,0 +1,18 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationTransitionRepository extends JpaRepository<ApplicationTransition, Long> {
+
+    List<ApplicationTransition> findByApplicationTypeAndApplicationIdOrderByIdAsc(
+            ApplicationTransition.ApplicationType applicationType, Long applicationId);
+
+    // Keyset page of the journal tail; pass PageRequest.of(0, size)
+    List<ApplicationTransition> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
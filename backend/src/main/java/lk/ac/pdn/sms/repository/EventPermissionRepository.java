@@ -3,12 +3,15 @@ package lk.ac.pdn.sms.repository;
 import lk.ac.pdn.sms.entity.EventPermission;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +24,15 @@ public interface EventPermissionRepository extends JpaRepository<EventPermission
 
     Page<EventPermission> findByStatus(EventPermission.EventStatus status, Pageable pageable);
 
+    // Loads the venue calendar at startup
+    List<EventPermission> findByStatusInAndEventDateGreaterThanEqual(
+            Collection<EventPermission.EventStatus> statuses, LocalDate eventDate);
+
+    // Venue check under the venue-day lock; a locking read sees the latest committed rows
+    // even inside a REPEATABLE READ transaction that started before they committed
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<EventPermission> findByEventDateAndStatusIn(LocalDate eventDate, Collection<EventPermission.EventStatus> statuses);
+
     @Query("SELECT e FROM EventPermission e WHERE e.status = 'APPROVED' AND e.eventDate >= CURRENT_DATE ORDER BY e.eventDate ASC")
     List<EventPermission> findUpcomingApprovedEvents();
 
@@ -0,0 +1,18 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.SocietyProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SocietyProfileRepository extends JpaRepository<SocietyProfile, Long> {
+
+    Optional<SocietyProfile> findBySocietyName(String societyName);
+
+    @Query("SELECT p.societyName FROM SocietyProfile p")
+    List<String> findAllSocietyNames();
+}
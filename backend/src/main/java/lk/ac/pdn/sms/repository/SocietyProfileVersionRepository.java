@@ -0,0 +1,17 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.SocietyProfileVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SocietyProfileVersionRepository extends JpaRepository<SocietyProfileVersion, Long> {
+
+    List<SocietyProfileVersion> findBySocietyNameOrderByVersionAsc(String societyName);
+
+    @Query("SELECT DISTINCT v.societyName FROM SocietyProfileVersion v")
+    List<String> findAllSocietyNames();
+}
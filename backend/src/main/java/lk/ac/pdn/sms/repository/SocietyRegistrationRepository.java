@@ -16,6 +16,15 @@ public interface SocietyRegistrationRepository extends JpaRepository<SocietyRegi
 
     List<SocietyRegistration> findByStatus(SocietyRegistration.ApprovalStage status);
 
+    // Rosters in two queries, one per collection, instead of two lazy loads per registration.
+    // Hibernate cannot fetch both bags in one query, so each has its own; callers join the
+    // two results by id (see MembershipIndex.rebuild)
+    @Query("SELECT DISTINCT r FROM SocietyRegistration r LEFT JOIN FETCH r.committeeMember WHERE r.status = :status")
+    List<SocietyRegistration> findByStatusWithCommittee(@Param("status") SocietyRegistration.ApprovalStage status);
+
+    @Query("SELECT DISTINCT r FROM SocietyRegistration r LEFT JOIN FETCH r.member WHERE r.status = :status")
+    List<SocietyRegistration> findByStatusWithMembers(@Param("status") SocietyRegistration.ApprovalStage status);
+
     List<SocietyRegistration> findByStatusAndApplicantFaculty(
             SocietyRegistration.ApprovalStage status, String faculty);
 
@@ -27,6 +36,8 @@ public interface SocietyRegistrationRepository extends JpaRepository<SocietyRegi
     long countByStatus(SocietyRegistration.ApprovalStage status);
 
     // Added missing method
+    List<SocietyRegistration> findBySocietyNameAndStatusOrderByApprovedDateAsc(String societyName, SocietyRegistration.ApprovalStage status);
+
     Optional<SocietyRegistration> findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
             String societyName, SocietyRegistration.ApprovalStage status);
 }
\ No newline at end of file
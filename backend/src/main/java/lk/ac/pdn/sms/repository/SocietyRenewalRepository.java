@@ -16,6 +16,13 @@ public interface SocietyRenewalRepository extends JpaRepository<SocietyRenewal,
 
     List<SocietyRenewal> findByStatus(SocietyRenewal.RenewalStatus status);
 
+    // See SocietyRegistrationRepository.findByStatusWithCommittee
+    @Query("SELECT DISTINCT r FROM SocietyRenewal r LEFT JOIN FETCH r.committeeMember WHERE r.status = :status")
+    List<SocietyRenewal> findByStatusWithCommittee(@Param("status") SocietyRenewal.RenewalStatus status);
+
+    @Query("SELECT DISTINCT r FROM SocietyRenewal r LEFT JOIN FETCH r.member WHERE r.status = :status")
+    List<SocietyRenewal> findByStatusWithMembers(@Param("status") SocietyRenewal.RenewalStatus status);
+
     List<SocietyRenewal> findByStatusAndApplicantFaculty(
             SocietyRenewal.RenewalStatus status, String applicantFaculty);
 
@@ -29,6 +36,11 @@ public interface SocietyRenewalRepository extends JpaRepository<SocietyRenewal,
     // Added missing methods to match Service calls
     boolean existsBySocietyNameAndYear(String societyName, Integer year);
 
+    @Query("SELECT r.societyName, r.year FROM SocietyRenewal r")
+    List<Object[]> findAllNamesAndYears();
+
+    List<SocietyRenewal> findBySocietyNameAndStatusOrderByApprovedDateAsc(String societyName, SocietyRenewal.RenewalStatus status);
+
     Optional<SocietyRenewal> findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
             String societyName, SocietyRenewal.RenewalStatus status);
 }
\ No newline at end of file
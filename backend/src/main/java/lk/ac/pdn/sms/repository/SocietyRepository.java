@@ -16,6 +16,10 @@ public interface SocietyRepository extends JpaRepository<Society, Long> {
 
     boolean existsBySocietyNameAndYear(String societyName, Integer year);
 
+    // Name and year pairs only, for the submission existence filter
+    @Query("SELECT s.societyName, s.year FROM Society s")
+    List<Object[]> findAllNamesAndYears();
+
     // Used for Dashboard Statistics
     long countByStatus(Society.SocietyStatus status);
 
@@ -0,0 +1,47 @@
+package lk.ac.pdn.sms.repository;
+
+import jakarta.persistence.LockModeType;
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lk.ac.pdn.sms.entity.StatisticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StatisticsRollupRepository extends JpaRepository<StatisticsRollup, Long> {
+
+    // One statement either way: creates the cell on its first application, otherwise adds to it
+    @Modifying
+    @Query(value = "INSERT INTO statistics_rollup (year, month, faculty, application_type, status, application_count) " +
+            "VALUES (:year, :month, :faculty, :type, :status, :delta) " +
+            "ON DUPLICATE KEY UPDATE application_count = application_count + :delta", nativeQuery = true)
+    int add(@Param("year") Integer year,
+            @Param("month") Integer month,
+            @Param("faculty") String faculty,
+            @Param("type") String type,
+            @Param("status") String status,
+            @Param("delta") long delta);
+
+    // Holds every cell, and under REPEATABLE READ the gaps between them, until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StatisticsRollup r")
+    List<StatisticsRollup> lockAll();
+
+    // Null year or status means any
+    @Query("SELECT COALESCE(SUM(r.applicationCount), 0) FROM StatisticsRollup r " +
+            "WHERE r.applicationType = :type AND (:year IS NULL OR r.year = :year) " +
+            "AND (:status IS NULL OR r.status = :status)")
+    long sumApplications(@Param("type") ApplicationTransition.ApplicationType type,
+                         @Param("year") Integer year,
+                         @Param("status") String status);
+
+    @Query("SELECT COALESCE(SUM(r.applicationCount), 0) FROM StatisticsRollup r")
+    long sumAllApplications();
+
+    List<StatisticsRollup> findByYearBetween(Integer fromYear, Integer toYear);
+}
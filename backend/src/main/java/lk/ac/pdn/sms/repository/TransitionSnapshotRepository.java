@@ -0,0 +1,13 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.TransitionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TransitionSnapshotRepository extends JpaRepository<TransitionSnapshot, Long> {
+
+    Optional<TransitionSnapshot> findByProjection(String projection);
+}
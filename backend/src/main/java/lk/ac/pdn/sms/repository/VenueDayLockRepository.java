@@ -0,0 +1,20 @@
+package lk.ac.pdn.sms.repository;
+
+import lk.ac.pdn.sms.entity.VenueDayLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface VenueDayLockRepository extends JpaRepository<VenueDayLock, Long> {
+
+    // Creates the row on first use; either way the row stays locked until the transaction ends
+    @Modifying
+    @Query(value = "INSERT INTO venue_day_locks (venue, event_date, claims) VALUES (:venue, :eventDate, 1) " +
+            "ON DUPLICATE KEY UPDATE claims = claims + 1", nativeQuery = true)
+    int claim(@Param("venue") String venue, @Param("eventDate") LocalDate eventDate);
+}
@@ -2,6 +2,7 @@ package lk.ac.pdn.sms.service;
 
 import lk.ac.pdn.sms.entity.ActivityLog;
 import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.jfr.ActivityLogEvent;
 import lk.ac.pdn.sms.repository.ActivityLogRepository;
 import lk.ac.pdn.sms.repository.AdminUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,7 @@ public class ActivityLogService {
     private AdminUserRepository adminUserRepository;
 
     public void logActivity(String action, String target, String userName) {
+        ActivityLogEvent event = ActivityLogEvent.start();
         // MODIFIED: Removed + "@pdn.ac.lk" to allow finding users by ANY email (e.g., Gmail)
         AdminUser user = adminUserRepository.findByEmail(userName).orElse(null);
 
@@ -32,9 +34,11 @@ public class ActivityLogService {
         log.setTarget(target);
 
         activityLogRepository.save(log);
+        event.finish(action, target);
     }
 
     public void logActivity(String action, String target, String adminId, String userName) {
+        ActivityLogEvent event = ActivityLogEvent.start();
         ActivityLog log = new ActivityLog();
         try {
             log.setUserId(Long.valueOf(adminId));
@@ -48,9 +52,11 @@ public class ActivityLogService {
         log.setTarget(target);
 
         activityLogRepository.save(log);
+        event.finish(action, target);
     }
 
     public void logAction(String action, String target, Long userId, String userName, String additionalInfo) {
+        ActivityLogEvent event = ActivityLogEvent.start();
         ActivityLog log = new ActivityLog();
         log.setUserId(userId);
         log.setUserName(userName);
@@ -58,6 +64,7 @@ public class ActivityLogService {
         log.setTarget(target);
 
         activityLogRepository.save(log);
+        event.finish(action, target);
     }
 
     public List<ActivityLog> getAllLogs() {
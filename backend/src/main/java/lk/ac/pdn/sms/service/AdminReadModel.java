@@ -0,0 +1,252 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.ApprovalDto;
+import lk.ac.pdn.sms.entity.AdminApplicationView;
+import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.repository.AdminApplicationViewRepository;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps {@code admin_application_view} in step with registrations, renewals and event
+ * requests, and answers the admin panel's inbox, monitoring and pending-count reads from it.
+ * Each of those was a query per application table plus entity mapping; here it is one
+ * indexed lookup on a narrow table that approvals only touch one row of.
+ *
+ * <p>Every submission and stage change is applied from its transition event, in the same
+ * transaction. Rows written outside the application are
+ * picked up by {@link #rebuild}, which runs at startup when the row counts disagree and can
+ * be triggered from the admin API.
+ */
+@Service
+public class AdminReadModel {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    // Only registrations still awaiting a decision are checked against the existing societies
+    private static final Set<String> DUPLICATE_CHECK_STATUSES = Set.of("PENDING_DEAN", "PENDING_AR", "PENDING_VC");
+
+    private static final Comparator<AdminApplicationView> INBOX_ORDER = Comparator
+            .comparing(AdminApplicationView::getApplicationType)
+            .thenComparing(AdminApplicationView::getApplicationId);
+
+    private final AdminApplicationViewRepository viewRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final SocietyRenewalRepository renewalRepository;
+    private final EventPermissionRepository eventPermissionRepository;
+    private final DuplicateSocietyIndex duplicateSocietyIndex;
+
+    public AdminReadModel(AdminApplicationViewRepository viewRepository,
+                          SocietyRegistrationRepository registrationRepository,
+                          SocietyRenewalRepository renewalRepository,
+                          EventPermissionRepository eventPermissionRepository,
+                          DuplicateSocietyIndex duplicateSocietyIndex) {
+        this.viewRepository = viewRepository;
+        this.registrationRepository = registrationRepository;
+        this.renewalRepository = renewalRepository;
+        this.eventPermissionRepository = eventPermissionRepository;
+        this.duplicateSocietyIndex = duplicateSocietyIndex;
+    }
+
+    @EventListener
+    public void onRegistrationChanged(RegistrationTransitionEvent event) {
+        SocietyRegistration registration = event.registration();
+        upsert(AdminApplicationView.Type.REGISTRATION, registration.getId(), view -> fill(view, registration));
+    }
+
+    @EventListener
+    public void onRenewalChanged(RenewalTransitionEvent event) {
+        SocietyRenewal renewal = event.renewal();
+        upsert(AdminApplicationView.Type.RENEWAL, renewal.getId(), view -> fill(view, renewal));
+    }
+
+    @EventListener
+    public void onEventChanged(EventPermissionTransitionEvent event) {
+        EventPermission evt = event.event();
+        upsert(AdminApplicationView.Type.EVENT, evt.getId(), view -> fill(view, evt));
+    }
+
+    /**
+     * Applications waiting on {@code admin}'s role: registrations, then renewals, then event
+     * requests, oldest first within each.
+     */
+    public List<ApprovalDto> getPendingFor(AdminUser admin) {
+        String status = pendingStatus(admin);
+        if (status == null) return new ArrayList<>();
+        List<AdminApplicationView> rows;
+        if (admin.getRole() == AdminUser.Role.DEAN) {
+            if (admin.getFaculty() == null) return new ArrayList<>();
+            rows = viewRepository.findByStatusAndFaculty(status, admin.getFaculty());
+        } else {
+            rows = viewRepository.findByStatus(status);
+        }
+        return toDtos(rows, true);
+    }
+
+    public long countPendingFor(AdminUser admin) {
+        String status = pendingStatus(admin);
+        if (status == null) return 0;
+        if (admin.getRole() == AdminUser.Role.DEAN) {
+            return viewRepository.countByStatusAndFaculty(status, admin.getFaculty() != null ? admin.getFaculty() : "");
+        }
+        return viewRepository.countByStatus(status);
+    }
+
+    public List<ApprovalDto> getAll() {
+        return toDtos(viewRepository.findAll(), false);
+    }
+
+    /**
+     * Throws the view away and refills it from the application tables. Returns the number of
+     * rows written.
+     */
+    @Transactional
+    public long rebuild() {
+        long started = System.currentTimeMillis();
+        viewRepository.deleteAllInBatch();
+        long rows = copy(registrationRepository::findAll, registration -> {
+            AdminApplicationView view = new AdminApplicationView();
+            fill(view, registration);
+            return view;
+        });
+        rows += copy(renewalRepository::findAll, renewal -> {
+            AdminApplicationView view = new AdminApplicationView();
+            fill(view, renewal);
+            return view;
+        });
+        rows += copy(eventPermissionRepository::findAll, event -> {
+            AdminApplicationView view = new AdminApplicationView();
+            fill(view, event);
+            return view;
+        });
+        System.out.println("Rebuilt admin application view: " + rows + " rows in "
+                + (System.currentTimeMillis() - started) + " ms");
+        return rows;
+    }
+
+    // Startup check: cheap counts decide whether the view missed rows written while it was not maintained
+    @Transactional
+    public void rebuildIfStale() {
+        long expected = registrationRepository.count() + renewalRepository.count() + eventPermissionRepository.count();
+        if (viewRepository.count() != expected) rebuild();
+    }
+
+    private void upsert(AdminApplicationView.Type type, Long applicationId, Consumer<AdminApplicationView> fill) {
+        AdminApplicationView view = viewRepository.findByApplicationTypeAndApplicationId(type, applicationId)
+                .orElseGet(AdminApplicationView::new);
+        fill.accept(view);
+        viewRepository.save(view);
+    }
+
+    private <T> long copy(Function<Pageable, Page<T>> source, Function<T, AdminApplicationView> mapper) {
+        long rows = 0;
+        Page<T> page;
+        int number = 0;
+        do {
+            page = source.apply(PageRequest.of(number++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            List<AdminApplicationView> views = new ArrayList<>(page.getNumberOfElements());
+            for (T item : page.getContent()) views.add(mapper.apply(item));
+            viewRepository.saveAll(views);
+            rows += views.size();
+        } while (page.hasNext());
+        return rows;
+    }
+
+    private static String pendingStatus(AdminUser admin) {
+        if (admin.getRole() == null) return null;
+        return switch (admin.getRole()) {
+            case DEAN -> "PENDING_DEAN";
+            case ASSISTANT_REGISTRAR -> "PENDING_AR";
+            case VICE_CHANCELLOR -> "PENDING_VC";
+            case PREMISES_OFFICER -> "PENDING_PREMISES";
+            case STUDENT_SERVICE -> null;
+        };
+    }
+
+    private List<ApprovalDto> toDtos(List<AdminApplicationView> rows, boolean withDuplicates) {
+        List<AdminApplicationView> sorted = new ArrayList<>(rows);
+        sorted.sort(INBOX_ORDER);
+        List<ApprovalDto> dtos = new ArrayList<>(sorted.size());
+        for (AdminApplicationView row : sorted) dtos.add(toDto(row, withDuplicates));
+        return dtos;
+    }
+
+    // Duplicates are looked up for pending registrations in the inbox only; an approved one
+    // would match the society created from itself
+    ApprovalDto toDto(AdminApplicationView row, boolean withDuplicates) {
+        ApprovalDto.ApprovalDtoBuilder dto = ApprovalDto.builder()
+                .id(row.getApplicationId())
+                .societyName(row.getSocietyName())
+                .applicantName(row.getApplicantName())
+                .submittedDate(row.getSubmittedDate())
+                .status(row.getStatus());
+        switch (row.getApplicationType()) {
+            case REGISTRATION -> {
+                dto.type("registration").faculty(row.getFaculty());
+                if (withDuplicates && DUPLICATE_CHECK_STATUSES.contains(row.getStatus())) {
+                    dto.possibleDuplicates(duplicateSocietyIndex.findDuplicates(
+                            row.getSocietyName(), row.getAims(), row.getApplicationId()));
+                }
+            }
+            case RENEWAL -> dto.type("renewal").faculty(row.getFaculty());
+            case EVENT -> dto.type("event").eventName(row.getEventName());
+        }
+        return dto.build();
+    }
+
+    static void fill(AdminApplicationView view, SocietyRegistration reg) {
+        view.setApplicationType(AdminApplicationView.Type.REGISTRATION);
+        view.setApplicationId(reg.getId());
+        view.setSocietyName(reg.getSocietyName());
+        view.setApplicantName(reg.getApplicantFullName());
+        view.setFaculty(reg.getApplicantFaculty());
+        view.setYear(reg.getYear());
+        view.setAims(reg.getAims());
+        view.setStatus(reg.getStatus().name());
+        view.setSubmittedDate(reg.getSubmittedDate());
+    }
+
+    static void fill(AdminApplicationView view, SocietyRenewal ren) {
+        view.setApplicationType(AdminApplicationView.Type.RENEWAL);
+        view.setApplicationId(ren.getId());
+        view.setSocietyName(ren.getSocietyName());
+        view.setApplicantName(ren.getApplicantFullName());
+        view.setFaculty(ren.getApplicantFaculty());
+        view.setYear(ren.getYear());
+        view.setStatus(ren.getStatus().name());
+        view.setSubmittedDate(ren.getSubmittedDate());
+    }
+
+    static void fill(AdminApplicationView view, EventPermission evt) {
+        view.setApplicationType(AdminApplicationView.Type.EVENT);
+        view.setApplicationId(evt.getId());
+        view.setSocietyName(evt.getSocietyName());
+        view.setEventName(evt.getEventName());
+        view.setApplicantName(evt.getApplicantName());
+        view.setFaculty(evt.getApplicantFaculty());
+        view.setYear(evt.getEventDate() != null ? evt.getEventDate().getYear() : null);
+        view.setStatus(evt.getStatus().name());
+        view.setSubmittedDate(evt.getSubmittedDate());
+    }
+}
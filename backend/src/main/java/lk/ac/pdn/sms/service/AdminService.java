@@ -4,14 +4,15 @@ import lk.ac.pdn.sms.dto.AdminUserManagementDto;
 import lk.ac.pdn.sms.entity.*;
 import lk.ac.pdn.sms.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,19 +26,34 @@ public class AdminService {
     private SocietyRepository societyRepository;
 
     @Autowired
-    private SocietyRegistrationRepository registrationRepository;
+    private ActivityLogService activityLogService;
 
     @Autowired
-    private SocietyRenewalRepository renewalRepository;
+    private EmailService emailService;
 
     @Autowired
-    private EventPermissionRepository eventPermissionRepository;
+    private UpcomingEventsService upcomingEventsService;
 
     @Autowired
-    private ActivityLogService activityLogService;
+    private AdminReadModel adminReadModel;
 
     @Autowired
-    private EmailService emailService;
+    private SocietyService societyService;
+
+    @Autowired
+    private RenewalService renewalService;
+
+    @Autowired
+    private TransitionJournal transitionJournal;
+
+    @Autowired
+    private ApplicationStatusProjection applicationStatusProjection;
+
+    @Autowired
+    private StageTimeProjection stageTimeProjection;
+
+    @Value("${app.dashboard.upcoming-events-limit:20}")
+    private int dashboardUpcomingLimit;
 
     // --- Helper for Controller ---
     public AdminUser getAdminFromAuth(Authentication authentication) {
@@ -55,45 +71,18 @@ public class AdminService {
     public Map<String, Object> getDashboardStats(AdminUser admin) {
         Map<String, Object> dashboardData = new HashMap<>();
 
-        dashboardData.put("totalSocieties", societyRepository.count());
-        dashboardData.put("activeSocieties", societyRepository.countByStatus(Society.SocietyStatus.ACTIVE));
-        dashboardData.put("currentYearRegistrations", registrationRepository.countByYear(LocalDate.now().getYear()));
-        dashboardData.put("currentYearRenewals", renewalRepository.countByYear(LocalDate.now().getYear()));
-
-        int pendingCount = 0;
-
-        if (admin.getRole() != null) {
-            switch (admin.getRole()) {
-                case DEAN:
-                    String faculty = admin.getFaculty() != null ? admin.getFaculty() : "";
-                    pendingCount += registrationRepository.findByStatusAndApplicantFaculty(
-                            SocietyRegistration.ApprovalStage.PENDING_DEAN, faculty).size();
-                    pendingCount += renewalRepository.findByStatusAndApplicantFaculty(
-                            SocietyRenewal.RenewalStatus.PENDING_DEAN, faculty).size();
-                    pendingCount += eventPermissionRepository.findByStatusAndApplicantFaculty(
-                            EventPermission.EventStatus.PENDING_DEAN, faculty).size();
-                    break;
-                case ASSISTANT_REGISTRAR:
-                    pendingCount += registrationRepository.countByStatus(SocietyRegistration.ApprovalStage.PENDING_AR);
-                    pendingCount += renewalRepository.countByStatus(SocietyRenewal.RenewalStatus.PENDING_AR);
-                    pendingCount += eventPermissionRepository.countByStatus(EventPermission.EventStatus.PENDING_AR);
-                    break;
-                case VICE_CHANCELLOR:
-                    pendingCount += registrationRepository.countByStatus(SocietyRegistration.ApprovalStage.PENDING_VC);
-                    pendingCount += renewalRepository.countByStatus(SocietyRenewal.RenewalStatus.PENDING_VC);
-                    pendingCount += eventPermissionRepository.countByStatus(EventPermission.EventStatus.PENDING_VC);
-                    break;
-                case PREMISES_OFFICER:
-                    pendingCount += eventPermissionRepository.countByStatus(EventPermission.EventStatus.PENDING_PREMISES);
-                    break;
-                case STUDENT_SERVICE:
-                    pendingCount = 0;
-                    break;
-            }
-        }
+        // Role-specific pending count from the admin read model; the global totals are shared with the public statistics
+        long pendingCount = adminReadModel.countPendingFor(admin);
+
+        Map<String, Object> societyStats = societyService.getSocietyStatistics();
+        Map<String, Object> renewalStats = renewalService.getRenewalStatistics();
 
+        dashboardData.put("totalSocieties", societyStats.get("totalSocieties"));
+        dashboardData.put("activeSocieties", societyStats.get("activeSocieties"));
+        dashboardData.put("currentYearRegistrations", societyStats.get("currentYearRegistrations"));
+        dashboardData.put("currentYearRenewals", renewalStats.get("currentYearRenewals"));
         dashboardData.put("pendingApprovals", pendingCount);
-        dashboardData.put("upcomingEvents", eventPermissionRepository.findUpcomingApprovedEvents());
+        dashboardData.put("upcomingEvents", upcomingEventsService.getUpcoming(dashboardUpcomingLimit));
         dashboardData.put("adminInfo", admin);
 
         return dashboardData;
@@ -112,6 +101,53 @@ public class AdminService {
         return adminUserRepository.save(admin);
     }
 
+    // Replayed from the transition journal, so it also covers applications that have since been approved or rejected
+    public Map<String, Object> getWorkflowStatistics() {
+        TransitionJournal.Replay<ApplicationStatusProjection.State> statuses = transitionJournal.replay(applicationStatusProjection);
+        TransitionJournal.Replay<StageTimeProjection.State> stageTimes = transitionJournal.replay(stageTimeProjection);
+
+        Map<String, Map<String, Object>> stages = new LinkedHashMap<>();
+        stageTimes.state().getStages().forEach((type, byStage) -> {
+            Map<String, Object> forType = new LinkedHashMap<>();
+            byStage.forEach((stage, time) -> {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("completed", time.getCompleted());
+                summary.put("avgHours", time.getCompleted() == 0 ? 0.0 : hours(time.getTotalMillis() / time.getCompleted()));
+                summary.put("maxHours", hours(time.getMaxMillis()));
+                forType.put(stage, summary);
+            });
+            stages.put(type, forType);
+        });
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statusCounts", statuses.state().getCountsByType());
+        stats.put("stageTimes", stages);
+        stats.put("replay", Map.of(
+                applicationStatusProjection.name(), replayInfo(statuses),
+                stageTimeProjection.name(), replayInfo(stageTimes)));
+        return stats;
+    }
+
+    public List<ApplicationTransition> getApplicationTimeline(String type, Long id) {
+        ApplicationTransition.ApplicationType applicationType;
+        try {
+            applicationType = ApplicationTransition.ApplicationType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown application type: " + type);
+        }
+        return transitionJournal.getTimeline(applicationType, id);
+    }
+
+    private static Map<String, Object> replayInfo(TransitionJournal.Replay<?> replay) {
+        return Map.of("snapshotTransitionId", replay.snapshotTransitionId(),
+                "tailTransitions", replay.tailTransitions(),
+                "tookMs", replay.tookMillis());
+    }
+
+    private static double hours(long millis) {
+        return Math.round(millis / 36_000.0) / 100.0;
+    }
+
     public List<AdminUser> getAllAdminUsers() {
         return adminUserRepository.findAll();
     }
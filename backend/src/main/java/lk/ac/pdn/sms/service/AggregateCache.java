@@ -0,0 +1,178 @@
+package lk.ac.pdn.sms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight cache for the public counters (society and renewal statistics, dashboard
+ * totals). Concurrent callers for the same key share one computation instead of each
+ * running the count queries. Once a value is older than the TTL, or a state transition
+ * invalidated it, callers keep getting the previous value while one background refresh
+ * runs; only values older than the max-stale window make callers wait.
+ *
+ * <p>Registrations, renewals and society changes mark the affected keys stale from their
+ * domain events once the transaction commits, so the refresh that follows sees the change.
+ */
+@Component
+public class AggregateCache {
+
+    public static final String SOCIETY_STATISTICS = "society-statistics";
+    public static final String RENEWAL_STATISTICS = "renewal-statistics";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "sms-aggregate-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AggregateCache(@Value("${app.aggregates.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${app.aggregates.max-stale-seconds:600}") long maxStaleSeconds,
+                          MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxStaleNanos = TimeUnit.SECONDS.toNanos(Math.max(ttlSeconds, maxStaleSeconds));
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, computing it with {@code loader} when needed.
+     * The value is shared between callers, so loaders should return immutable results.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        Snapshot snapshot = entry.snapshot;
+        long now = System.nanoTime();
+
+        if (snapshot != null) {
+            long age = now - snapshot.loadedAt();
+            if (age < ttlNanos && snapshot.generation() == entry.generation.get()) {
+                count(key, "fresh");
+                return (T) snapshot.value();
+            }
+            if (age < maxStaleNanos) {
+                count(key, "stale");
+                load(key, entry, loader, true);
+                return (T) snapshot.value();
+            }
+        }
+
+        count(key, "wait");
+        try {
+            return (T) load(key, entry, loader, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    // New registrations count towards this year's total in the society statistics
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegistration(RegistrationTransitionEvent event) {
+        invalidate(SOCIETY_STATISTICS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRenewal(RenewalTransitionEvent event) {
+        invalidate(RENEWAL_STATISTICS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        invalidate(SOCIETY_STATISTICS);
+    }
+
+    private void invalidate(String... keys) {
+        for (String key : keys) {
+            Entry entry = entries.get(key);
+            if (entry != null) entry.generation.incrementAndGet();
+        }
+    }
+
+    private CompletableFuture<Object> load(String key, Entry entry, Supplier<?> loader, boolean inBackground) {
+        CompletableFuture<Object> future;
+        synchronized (entry) {
+            if (entry.inFlight != null) return entry.inFlight;
+            future = new CompletableFuture<>();
+            entry.inFlight = future;
+        }
+
+        Runnable task = () -> {
+            // Read before loading: an invalidation that lands mid-load leaves the result stale
+            long generation = entry.generation.get();
+            try {
+                Object value = loader.get();
+                entry.snapshot = new Snapshot(value, System.nanoTime(), generation);
+                finish(entry);
+                future.complete(value);
+            } catch (RuntimeException e) {
+                System.err.println("Failed to refresh aggregate '" + key + "': " + e.getMessage());
+                finish(entry);
+                future.completeExceptionally(e);
+            }
+        };
+
+        if (!inBackground) {
+            task.run();
+            return future;
+        }
+        try {
+            refresher.execute(task);
+        } catch (RejectedExecutionException e) {
+            finish(entry);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static void finish(Entry entry) {
+        synchronized (entry) {
+            entry.inFlight = null;
+        }
+    }
+
+    private void count(String key, String result) {
+        Counter.builder("sms.aggregate.requests")
+                .description("Aggregate lookups by cache outcome")
+                .tag("aggregate", key)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record Snapshot(Object value, long loadedAt, long generation) {
+    }
+
+    private static final class Entry {
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Snapshot snapshot;
+        private CompletableFuture<Object> inFlight;
+    }
+}
@@ -0,0 +1,56 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Current status of every application, and how many applications of each type sit in each
+ * status, derived from the journal alone.
+ */
+@Component
+public class ApplicationStatusProjection implements TransitionProjection<ApplicationStatusProjection.State> {
+
+    @Override
+    public String name() {
+        return "application-status-v1";
+    }
+
+    @Override
+    public Class<State> stateType() {
+        return State.class;
+    }
+
+    @Override
+    public State initialState() {
+        return new State();
+    }
+
+    @Override
+    public void apply(State state, ApplicationTransition transition) {
+        String type = transition.getApplicationType().name();
+        String key = type + ":" + transition.getApplicationId();
+        String previous = state.getStatusByApplication().put(key, transition.getToStatus());
+
+        Map<String, Long> counts = state.getCountsByType().computeIfAbsent(type, t -> new TreeMap<>());
+        if (previous != null) {
+            long left = counts.getOrDefault(previous, 0L) - 1;
+            if (left > 0) counts.put(previous, left); else counts.remove(previous);
+        }
+        counts.merge(transition.getToStatus(), 1L, Long::sum);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class State {
+        // "REGISTRATION:42" -> "PENDING_AR"
+        private Map<String, String> statusByApplication = new HashMap<>();
+        // Type -> status -> number of applications currently in it
+        private Map<String, Map<String, Long>> countsByType = new TreeMap<>();
+    }
+}
@@ -0,0 +1,170 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.ApprovalLatencyDto;
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lk.ac.pdn.sms.util.QuantileSketch;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Approval latency per stage, kept current as transitions are journalled. The live state is
+ * an {@link ApprovalLatencyProjection} loaded from the journal at startup (snapshot plus tail)
+ * and then fed each new transition once its transaction commits, so a query only merges the
+ * sketches it needs and never scans applications or the journal.
+ *
+ * <p>Transitions that commit while {@link #rebuild} is replaying are applied to the old state
+ * and also buffered. Once the replay is done, the buffered ones it did not read are applied to
+ * it before it is swapped in, so none is lost with the old state.
+ */
+@Service
+public class ApprovalLatencyAnalytics {
+
+    private static final Set<String> GROUP_DIMENSIONS = Set.of("faculty", "approver");
+
+    // Histogram upper bounds, in hours
+    private static final Map<String, Double> HISTOGRAM_BOUNDS = new LinkedHashMap<>();
+    static {
+        HISTOGRAM_BOUNDS.put("1h", 1.0);
+        HISTOGRAM_BOUNDS.put("1d", 24.0);
+        HISTOGRAM_BOUNDS.put("3d", 72.0);
+        HISTOGRAM_BOUNDS.put("7d", 168.0);
+        HISTOGRAM_BOUNDS.put("14d", 336.0);
+        HISTOGRAM_BOUNDS.put("30d", 720.0);
+    }
+
+    // Identity ids are handed out before commit, so an entry that commits during the replay can
+    // sit below ids it already read. Replayed entries recorded within this window are remembered
+    // to tell them apart; no transaction is expected to stay open longer than this
+    private static final Duration IN_FLIGHT_WINDOW = Duration.ofMinutes(5);
+
+    private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote(ApprovalLatencyProjection.SEPARATOR));
+
+    private final TransitionJournal transitionJournal;
+    private final ApprovalLatencyProjection projection;
+
+    private ApprovalLatencyProjection.State state;
+    // Non-null while a rebuild is replaying: transitions committed since it started
+    private List<ApplicationTransition> committedDuringRebuild;
+
+    public ApprovalLatencyAnalytics(TransitionJournal transitionJournal, ApprovalLatencyProjection projection) {
+        this.transitionJournal = transitionJournal;
+        this.projection = projection;
+        this.state = projection.initialState();
+    }
+
+    public void rebuild() {
+        LocalDateTime recentSince = LocalDateTime.now().minus(IN_FLIGHT_WINDOW);
+        synchronized (this) {
+            committedDuringRebuild = new ArrayList<>();
+        }
+        Set<Long> recentlyReplayed = new HashSet<>();
+        ApprovalLatencyProjection.State replayed;
+        try {
+            replayed = transitionJournal.replay(new TransitionProjection<ApprovalLatencyProjection.State>() {
+                @Override
+                public String name() {
+                    return projection.name();
+                }
+
+                @Override
+                public Class<ApprovalLatencyProjection.State> stateType() {
+                    return projection.stateType();
+                }
+
+                @Override
+                public ApprovalLatencyProjection.State initialState() {
+                    return projection.initialState();
+                }
+
+                @Override
+                public void apply(ApprovalLatencyProjection.State target, ApplicationTransition transition) {
+                    if (!transition.getRecordedAt().isBefore(recentSince)) recentlyReplayed.add(transition.getId());
+                    projection.apply(target, transition);
+                }
+            }).state();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                committedDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            for (ApplicationTransition transition : committedDuringRebuild) {
+                if (!recentlyReplayed.contains(transition.getId())) projection.apply(replayed, transition);
+            }
+            committedDuringRebuild = null;
+            state = replayed;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onTransition(ApplicationTransition transition) {
+        projection.apply(state, transition);
+        if (committedDuringRebuild != null) committedDuringRebuild.add(transition);
+    }
+
+    /**
+     * One row per type and stage, split further by each dimension in {@code groupBy}, a
+     * comma-separated list of faculty and approver. Null filters match everything.
+     */
+    public List<ApprovalLatencyDto> getLatency(String groupBy, String type, String faculty, String approver) {
+        Set<String> dimensions = new HashSet<>();
+        if (groupBy != null && !groupBy.isBlank()) {
+            for (String dimension : groupBy.toLowerCase().split(",")) {
+                if (!GROUP_DIMENSIONS.contains(dimension.trim())) {
+                    throw new RuntimeException("Unknown groupBy: " + dimension + " (expected any of " + GROUP_DIMENSIONS + ")");
+                }
+                dimensions.add(dimension.trim());
+            }
+        }
+        boolean byFaculty = dimensions.contains("faculty");
+        boolean byApprover = dimensions.contains("approver");
+
+        Map<String, QuantileSketch> merged = new TreeMap<>();
+        synchronized (this) {
+            state.getSketches().forEach((key, sketch) -> {
+                String[] parts = SEPARATOR.split(key, -1);
+                if (type != null && !type.equalsIgnoreCase(parts[0])) return;
+                if (faculty != null && !faculty.equals(parts[2])) return;
+                if (approver != null && !approver.equalsIgnoreCase(parts[3])) return;
+                String group = String.join(ApprovalLatencyProjection.SEPARATOR, parts[0], parts[1],
+                        byFaculty ? parts[2] : "", byApprover ? parts[3] : "");
+                merged.computeIfAbsent(group, g -> new QuantileSketch()).merge(sketch);
+            });
+        }
+
+        List<ApprovalLatencyDto> rows = new ArrayList<>();
+        merged.forEach((group, sketch) -> {
+            String[] parts = SEPARATOR.split(group, -1);
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            long below = 0;
+            for (Map.Entry<String, Double> bound : HISTOGRAM_BOUNDS.entrySet()) {
+                long upTo = sketch.countAtMost(bound.getValue() * 3600);
+                histogram.put(bound.getKey(), upTo - below);
+                below = upTo;
+            }
+            histogram.put("more", sketch.getCount() - below);
+            rows.add(new ApprovalLatencyDto(parts[0], parts[1],
+                    byFaculty ? parts[2] : null, byApprover ? parts[3] : null,
+                    sketch.getCount(), hours(sketch.quantile(0.5)), hours(sketch.quantile(0.9)),
+                    hours(sketch.quantile(0.99)), hours(sketch.getMax()), histogram));
+        });
+        return rows;
+    }
+
+    private static double hours(double seconds) {
+        return Math.round(seconds / 36.0) / 100.0;
+    }
+}
@@ -0,0 +1,67 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lk.ac.pdn.sms.util.QuantileSketch;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dwell time at each approval stage as quantile sketches, one per type, stage, faculty and
+ * approver (the actor who moved the application on). Like {@link StageTimeProjection} it only
+ * remembers open applications, so the state is bounded by the open workload plus the sketches.
+ */
+@Component
+public class ApprovalLatencyProjection implements TransitionProjection<ApprovalLatencyProjection.State> {
+
+    static final String SEPARATOR = "|";
+
+    @Override
+    public String name() {
+        return "approval-latency-v1";
+    }
+
+    @Override
+    public Class<State> stateType() {
+        return State.class;
+    }
+
+    @Override
+    public State initialState() {
+        return new State();
+    }
+
+    @Override
+    public void apply(State state, ApplicationTransition transition) {
+        String type = transition.getApplicationType().name();
+        String application = type + ":" + transition.getApplicationId();
+        long at = transition.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        Long entered = state.getEnteredAt().remove(application);
+        if (entered != null && transition.getFromStatus() != null) {
+            String key = String.join(SEPARATOR, type, transition.getFromStatus(),
+                    orEmpty(transition.getFaculty()), orEmpty(transition.getActor()));
+            state.getSketches().computeIfAbsent(key, k -> new QuantileSketch())
+                    .add(Math.max(0, at - entered) / 1000.0);
+        }
+        String to = transition.getToStatus();
+        if (!"APPROVED".equals(to) && !"REJECTED".equals(to)) state.getEnteredAt().put(application, at);
+    }
+
+    private static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class State {
+        // Open applications only: "EVENT:7" -> epoch millis it entered its current stage
+        private Map<String, Long> enteredAt = new HashMap<>();
+        // "REGISTRATION|PENDING_DEAN|Faculty of Science|dean.sci@pdn.ac.lk" -> dwell seconds
+        private Map<String, QuantileSketch> sketches = new HashMap<>();
+    }
+}
@@ -2,15 +2,19 @@ package lk.ac.pdn.sms.service;
 
 import lk.ac.pdn.sms.dto.ApprovalDto;
 import lk.ac.pdn.sms.entity.*;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.jfr.WorkflowTransitionEvent;
 import lk.ac.pdn.sms.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class ApprovalService {
@@ -21,102 +25,46 @@ public class ApprovalService {
     private final SocietyRepository societyRepository;
     private final EmailService emailService;
     private final ActivityLogService activityLogService;
+    private final VenueCalendarService venueCalendarService;
+    private final AdminReadModel adminReadModel;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApprovalService(SocietyRegistrationRepository registrationRepository,
                            SocietyRenewalRepository renewalRepository,
                            EventPermissionRepository eventPermissionRepository,
                            SocietyRepository societyRepository,
                            EmailService emailService,
-                           ActivityLogService activityLogService) {
+                           ActivityLogService activityLogService,
+                           VenueCalendarService venueCalendarService,
+                           AdminReadModel adminReadModel,
+                           ApplicationEventPublisher eventPublisher) {
         this.registrationRepository = registrationRepository;
         this.renewalRepository = renewalRepository;
         this.eventPermissionRepository = eventPermissionRepository;
         this.societyRepository = societyRepository;
         this.emailService = emailService;
         this.activityLogService = activityLogService;
+        this.venueCalendarService = venueCalendarService;
+        this.adminReadModel = adminReadModel;
+        this.eventPublisher = eventPublisher;
     }
 
     // --- Added Method to Fix Controller Error ---
+    // Served from the admin read model rather than the application tables
     public List<ApprovalDto> getPendingItemsForAdmin(AdminUser admin) {
-        List<ApprovalDto> pendingItems = new ArrayList<>();
-
-        if (admin.getRole() == null) return pendingItems;
-
-        switch (admin.getRole()) {
-            case DEAN:
-                if (admin.getFaculty() != null) {
-                    pendingItems.addAll(getDeanPendingApprovals(admin.getFaculty()));
-                }
-                break;
-            case ASSISTANT_REGISTRAR:
-                pendingItems.addAll(getARPendingApprovals());
-                break;
-            case VICE_CHANCELLOR:
-                pendingItems.addAll(getVCPendingApprovals());
-                break;
-            case PREMISES_OFFICER:
-                // Premises Officer only sees Event Permissions pending their approval
-                List<EventPermission> events = eventPermissionRepository.findByStatus(EventPermission.EventStatus.PENDING_PREMISES);
-                pendingItems.addAll(events.stream().map(this::mapToDto).collect(Collectors.toList()));
-                break;
-            case STUDENT_SERVICE:
-                // Usually read-only/monitoring
-                break;
-        }
-        return pendingItems;
-    }
-
-    public List<ApprovalDto> getDeanPendingApprovals(String faculty) {
-        List<ApprovalDto> dtos = new ArrayList<>();
-        List<SocietyRegistration> registrations = registrationRepository.findByStatusAndApplicantFaculty(
-                SocietyRegistration.ApprovalStage.PENDING_DEAN, faculty);
-        dtos.addAll(registrations.stream().map(this::mapToDto).collect(Collectors.toList()));
-
-        List<SocietyRenewal> renewals = renewalRepository.findByStatusAndApplicantFaculty(
-                SocietyRenewal.RenewalStatus.PENDING_DEAN, faculty);
-        dtos.addAll(renewals.stream().map(this::mapToDto).collect(Collectors.toList()));
-
-        List<EventPermission> events = eventPermissionRepository.findByStatusAndApplicantFaculty(
-                EventPermission.EventStatus.PENDING_DEAN, faculty);
-        dtos.addAll(events.stream().map(this::mapToDto).collect(Collectors.toList()));
-
-        return dtos;
-    }
-
-    public List<ApprovalDto> getARPendingApprovals() {
-        List<ApprovalDto> dtos = new ArrayList<>();
-        dtos.addAll(registrationRepository.findByStatus(SocietyRegistration.ApprovalStage.PENDING_AR)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(renewalRepository.findByStatus(SocietyRenewal.RenewalStatus.PENDING_AR)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(eventPermissionRepository.findByStatus(EventPermission.EventStatus.PENDING_AR)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        return dtos;
-    }
-
-    public List<ApprovalDto> getVCPendingApprovals() {
-        List<ApprovalDto> dtos = new ArrayList<>();
-        dtos.addAll(registrationRepository.findByStatus(SocietyRegistration.ApprovalStage.PENDING_VC)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(renewalRepository.findByStatus(SocietyRenewal.RenewalStatus.PENDING_VC)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(eventPermissionRepository.findByStatus(EventPermission.EventStatus.PENDING_VC)
-                .stream().map(this::mapToDto).collect(Collectors.toList()));
-        return dtos;
+        return adminReadModel.getPendingFor(admin);
     }
 
     public List<ApprovalDto> getMonitoringApplications() {
-        List<ApprovalDto> dtos = new ArrayList<>();
-        dtos.addAll(registrationRepository.findAll().stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(renewalRepository.findAll().stream().map(this::mapToDto).collect(Collectors.toList()));
-        dtos.addAll(eventPermissionRepository.findAll().stream().map(this::mapToDto).collect(Collectors.toList()));
-        return dtos;
+        return adminReadModel.getAll();
     }
 
     @Transactional
-    public void processRegistrationApproval(Long id, ApprovalDto dto) {
+    public void processRegistrationApproval(Long id, ApprovalDto dto, AdminUser admin) {
+        WorkflowTransitionEvent transition = WorkflowTransitionEvent.start("REGISTRATION", id);
         SocietyRegistration reg = registrationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Registration not found"));
+        SocietyRegistration.ApprovalStage fromStage = reg.getStatus();
 
         String adminRole = dto.getApproverRole() != null ? dto.getApproverRole() : "Admin";
 
@@ -160,12 +108,16 @@ public class ApprovalService {
             }
         }
         registrationRepository.save(reg);
+        eventPublisher.publishEvent(new RegistrationTransitionEvent(reg, fromStage, admin.getEmail()));
+        transition.finish(fromStage, reg.getStatus());
     }
 
     @Transactional
-    public void processRenewalApproval(Long id, ApprovalDto dto) {
+    public void processRenewalApproval(Long id, ApprovalDto dto, AdminUser admin) {
+        WorkflowTransitionEvent transition = WorkflowTransitionEvent.start("RENEWAL", id);
         SocietyRenewal renewal = renewalRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Renewal not found"));
+        SocietyRenewal.RenewalStatus fromStage = renewal.getStatus();
 
         String adminRole = dto.getApproverRole() != null ? dto.getApproverRole() : "Admin";
 
@@ -209,12 +161,16 @@ public class ApprovalService {
             }
         }
         renewalRepository.save(renewal);
+        eventPublisher.publishEvent(new RenewalTransitionEvent(renewal, fromStage, admin.getEmail()));
+        transition.finish(fromStage, renewal.getStatus());
     }
 
     @Transactional
-    public void processEventPermissionApproval(Long id, ApprovalDto dto) {
+    public void processEventPermissionApproval(Long id, ApprovalDto dto, AdminUser admin) {
+        WorkflowTransitionEvent transition = WorkflowTransitionEvent.start("EVENT_PERMISSION", id);
         EventPermission event = eventPermissionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event request not found"));
+        EventPermission.EventStatus fromStage = event.getStatus();
 
         String adminRole = dto.getApproverRole() != null ? dto.getApproverRole() : "Admin";
 
@@ -235,6 +191,7 @@ public class ApprovalService {
                     activityLogService.logAction("APPROVE_EVENT_DEAN", event.getEventName(), null, "Dean", null);
                     break;
                 case PENDING_PREMISES:
+                    venueCalendarService.assertVenueAvailable(event);
                     event.setIsPremisesApproved(true);
                     event.setPremisesApprovalDate(LocalDateTime.now());
                     event.setPremisesComment(dto.getComment());
@@ -266,6 +223,8 @@ public class ApprovalService {
             }
         }
         eventPermissionRepository.save(event);
+        eventPublisher.publishEvent(new EventPermissionTransitionEvent(event, fromStage, admin.getEmail()));
+        transition.finish(fromStage, event.getStatus());
     }
 
     private void createSocietyFromRegistration(SocietyRegistration reg) {
@@ -316,7 +275,8 @@ public class ApprovalService {
         society.setSeniorTreasurerName(reg.getSeniorTreasurerFullName());
         society.setSeniorTreasurerEmail(reg.getSeniorTreasurerEmail());
 
-        societyRepository.save(society);
+        society = societyRepository.save(society);
+        eventPublisher.publishEvent(SocietyChangedEvent.registrationApproved(society, reg));
     }
 
     private void updateSocietyFromRenewal(SocietyRenewal renewal) {
@@ -348,43 +308,8 @@ public class ApprovalService {
                     society.setSeniorTreasurerEmail(renewal.getSeniorTreasurerEmail());
                 }
 
-                societyRepository.save(society);
+                Society saved = societyRepository.save(society);
+                eventPublisher.publishEvent(SocietyChangedEvent.renewalApproved(saved, renewal));
             });
     }
-
-    private ApprovalDto mapToDto(SocietyRegistration reg) {
-        return ApprovalDto.builder()
-                .id(reg.getId())
-                .type("registration")
-                .societyName(reg.getSocietyName())
-                .applicantName(reg.getApplicantFullName())
-                .faculty(reg.getApplicantFaculty())
-                .submittedDate(reg.getSubmittedDate())
-                .status(reg.getStatus().name())
-                .build();
-    }
-
-    private ApprovalDto mapToDto(SocietyRenewal ren) {
-        return ApprovalDto.builder()
-                .id(ren.getId())
-                .type("renewal")
-                .societyName(ren.getSocietyName())
-                .applicantName(ren.getApplicantFullName())
-                .faculty(ren.getApplicantFaculty())
-                .submittedDate(ren.getSubmittedDate())
-                .status(ren.getStatus().name())
-                .build();
-    }
-
-    private ApprovalDto mapToDto(EventPermission evt) {
-        return ApprovalDto.builder()
-                .id(evt.getId())
-                .type("event")
-                .societyName(evt.getSocietyName())
-                .eventName(evt.getEventName())
-                .applicantName(evt.getApplicantName())
-                .submittedDate(evt.getSubmittedDate())
-                .status(evt.getStatus().name())
-                .build();
-    }
-}
\ No newline at end of file
+}
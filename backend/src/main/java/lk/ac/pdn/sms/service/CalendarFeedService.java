@@ -0,0 +1,240 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * iCalendar (RFC 5545) feeds of approved events: campus-wide, per faculty and per society.
+ * Each event is serialized once into a VEVENT byte block when it is approved; a feed is the
+ * concatenation of its blocks and is cached until one of its events changes.
+ *
+ * <p>Only faculties and societies that have held an approved event get a cached feed, so the
+ * cache is bounded by the data rather than by the names callers ask for. A feed's
+ * Last-Modified is when an event in its scope last changed, or when the index was loaded.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final String TZID = "Asia/Colombo";
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UTC_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private static final String ALL_SCOPE = "all";
+
+    private final EventPermissionRepository eventRepository;
+    private final int lookbackDays;
+
+    // Rebuilt into new maps and swapped in, so a request never assembles from a half-filled index
+    private volatile Map<Long, VEvent> events = new ConcurrentHashMap<>();
+    private volatile Map<String, Feed> feeds = new ConcurrentHashMap<>();
+    // Scope -> when it last changed, whole seconds; keys come only from events, never from requests
+    private volatile Map<String, Long> scopeModified = new ConcurrentHashMap<>();
+    private volatile long loadedAt = wholeSeconds(System.currentTimeMillis());
+
+    public CalendarFeedService(EventPermissionRepository eventRepository,
+                               @Value("${app.calendar.lookback-days:365}") int lookbackDays) {
+        this.eventRepository = eventRepository;
+        this.lookbackDays = lookbackDays;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long now = wholeSeconds(System.currentTimeMillis());
+        Map<Long, VEvent> nextEvents = new ConcurrentHashMap<>();
+        Map<String, Long> nextModified = new ConcurrentHashMap<>();
+        eventRepository.findByStatus(EventPermission.EventStatus.APPROVED).forEach(e -> {
+            VEvent block = toVEvent(e);
+            if (block == null) return;
+            nextEvents.put(e.getId(), block);
+            scopes(block).forEach(scope -> nextModified.put(scope, now));
+        });
+        loadedAt = now;
+        scopeModified = nextModified;
+        events = nextEvents;
+        feeds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Re-serializes one event once its change has committed and evicts only the feeds it appears in.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onEventChanged(EventPermissionTransitionEvent transition) {
+        EventPermission event = transition.event();
+        if (event.getId() == null) return;
+
+        VEvent previous = events.get(event.getId());
+        VEvent current = event.getStatus() == EventPermission.EventStatus.APPROVED ? toVEvent(event) : null;
+        if (previous == null && current == null) return;
+
+        // Stamp the scopes before swapping the block, and evict after, so a feed cached in
+        // between is thrown away rather than kept with content newer than its Last-Modified
+        long now = wholeSeconds(System.currentTimeMillis());
+        if (previous != null) scopes(previous).forEach(scope -> scopeModified.put(scope, now));
+        if (current != null) scopes(current).forEach(scope -> scopeModified.put(scope, now));
+
+        if (current != null) events.put(event.getId(), current);
+        else events.remove(event.getId());
+
+        if (previous != null) scopes(previous).forEach(feeds::remove);
+        if (current != null) scopes(current).forEach(feeds::remove);
+    }
+
+    public Feed getCampusFeed() {
+        return feed(ALL_SCOPE, "University of Peradeniya Events", e -> true);
+    }
+
+    public Feed getFacultyFeed(String faculty) {
+        String facultyKey = TextNormalizer.normalizeName(faculty);
+        return feed("faculty:" + facultyKey, faculty + " Events", e -> e.facultyKey().equals(facultyKey));
+    }
+
+    public Feed getSocietyFeed(String societyName) {
+        String societyKey = TextNormalizer.normalizeName(societyName);
+        return feed("society:" + societyKey, societyName + " Events", e -> e.societyKey().equals(societyKey));
+    }
+
+    private Feed feed(String scope, String calendarName, Predicate<VEvent> filter) {
+        // A scope no approved event has used is always empty; build it per request instead of caching it
+        if (!ALL_SCOPE.equals(scope) && !scopeModified.containsKey(scope)) {
+            return assemble(calendarName, filter, loadedAt);
+        }
+        return feeds.computeIfAbsent(scope,
+                key -> assemble(calendarName, filter, scopeModified.getOrDefault(key, loadedAt)));
+    }
+
+    private static List<String> scopes(VEvent block) {
+        return List.of(ALL_SCOPE, "faculty:" + block.facultyKey(), "society:" + block.societyKey());
+    }
+
+    private static long wholeSeconds(long millis) {
+        // If-Modified-Since carries no finer precision
+        return millis / 1000 * 1000;
+    }
+
+    private Feed assemble(String calendarName, Predicate<VEvent> scope, long lastModified) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(header(calendarName));
+        events.values().stream()
+                .filter(scope)
+                .sorted(Comparator.comparing(VEvent::start))
+                .forEach(e -> out.writeBytes(e.bytes()));
+        out.writeBytes(("END:VCALENDAR" + CRLF).getBytes(StandardCharsets.UTF_8));
+
+        byte[] body = out.toByteArray();
+        String etag = "\"ics-" + Integer.toHexString(Arrays.hashCode(body)) + "-" + body.length + "\"";
+        return new Feed(body, etag, lastModified);
+    }
+
+    private VEvent toVEvent(EventPermission e) {
+        if (e.getEventDate() == null) return null;
+        if (e.getEventDate().isBefore(LocalDate.now().minusDays(lookbackDays))) return null;
+
+        StringBuilder sb = new StringBuilder(512);
+        line(sb, "BEGIN:VEVENT");
+        line(sb, "UID:event-" + e.getId() + "@sms.pdn.ac.lk");
+        LocalDateTime stamp = e.getApprovedDate() != null ? e.getApprovedDate() : LocalDateTime.now();
+        line(sb, "DTSTAMP:" + stamp.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_STAMP));
+
+        if (e.getTimeFrom() != null) {
+            LocalDateTime start = e.getEventDate().atTime(e.getTimeFrom());
+            line(sb, "DTSTART;TZID=" + TZID + ":" + start.format(LOCAL_DATE_TIME));
+            if (e.getTimeTo() != null) {
+                LocalDateTime end = e.getEventDate().atTime(e.getTimeTo());
+                if (!end.isAfter(start)) end = end.plusDays(1);
+                line(sb, "DTEND;TZID=" + TZID + ":" + end.format(LOCAL_DATE_TIME));
+            }
+        } else {
+            line(sb, "DTSTART;VALUE=DATE:" + e.getEventDate().format(DATE));
+            line(sb, "DTEND;VALUE=DATE:" + e.getEventDate().plusDays(1).format(DATE));
+        }
+
+        line(sb, "SUMMARY:" + escape(e.getEventName()));
+        if (e.getPlace() != null) line(sb, "LOCATION:" + escape(e.getPlace()));
+        line(sb, "DESCRIPTION:" + escape("Organised by " + e.getSocietyName() + " (" + e.getApplicantFaculty() + ")"));
+        if (e.getApplicantFaculty() != null) line(sb, "CATEGORIES:" + escape(e.getApplicantFaculty()));
+        line(sb, "END:VEVENT");
+
+        return new VEvent(
+                e.getEventDate().atTime(e.getTimeFrom() != null ? e.getTimeFrom() : LocalTime.MIDNIGHT),
+                TextNormalizer.normalizeName(e.getApplicantFaculty()),
+                TextNormalizer.normalizeName(e.getSocietyName()),
+                sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] header(String calendarName) {
+        StringBuilder sb = new StringBuilder(512);
+        line(sb, "BEGIN:VCALENDAR");
+        line(sb, "VERSION:2.0");
+        line(sb, "PRODID:-//University of Peradeniya//Society Management System//EN");
+        line(sb, "CALSCALE:GREGORIAN");
+        line(sb, "METHOD:PUBLISH");
+        line(sb, "X-WR-CALNAME:" + escape(calendarName));
+        line(sb, "X-WR-TIMEZONE:" + TZID);
+        line(sb, "REFRESH-INTERVAL;VALUE=DURATION:PT15M");
+        line(sb, "BEGIN:VTIMEZONE");
+        line(sb, "TZID:" + TZID);
+        line(sb, "BEGIN:STANDARD");
+        line(sb, "DTSTART:19700101T000000");
+        line(sb, "TZOFFSETFROM:+0530");
+        line(sb, "TZOFFSETTO:+0530");
+        line(sb, "TZNAME:+0530");
+        line(sb, "END:STANDARD");
+        line(sb, "END:VTIMEZONE");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Content lines are folded at 75 octets without splitting a UTF-8 sequence
+    private static void line(StringBuilder sb, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + size > 75) {
+                sb.append(CRLF).append(' ');
+                octets = 1;
+            }
+            sb.append(c);
+            octets += size;
+        }
+        sb.append(CRLF);
+    }
+
+    private static String escape(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    private record VEvent(LocalDateTime start, String facultyKey, String societyKey, byte[] bytes) {
+    }
+
+    public record Feed(byte[] body, String etag, long lastModified) {
+    }
+}
@@ -0,0 +1,327 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.DuplicateMatchDto;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over society names for spotting near-duplicate registrations such as
+ * "IEEE Student Branch" and "IEEE Students' Branch". Holds one entry per distinct society
+ * name (latest year) plus every registration still in the approval workflow.
+ *
+ * <p>Names are compared after dropping punctuation and words every society shares
+ * ("society", "club", "of", ...), scored with the Dice coefficient of their trigram sets.
+ * Entries are numbered and postings are int arrays, so a lookup is one pass over the
+ * postings of the query's trigrams counting into an int array, with no per-candidate
+ * hashing. When both sides have aims, word overlap of the aims contributes a fifth of the
+ * score.
+ */
+@Service
+public class DuplicateSocietyIndex {
+
+    private static final int MAX_MATCHES = 5;
+    private static final double AIMS_WEIGHT = 0.2;
+
+    private static final Set<String> GENERIC_WORDS = Set.of(
+            "society", "societies", "club", "association", "union", "circle", "forum", "team",
+            "the", "of", "and", "for", "in", "at", "university", "peradeniya", "uop", "faculty");
+
+    private static final Set<SocietyRegistration.ApprovalStage> IN_WORKFLOW = EnumSet.of(
+            SocietyRegistration.ApprovalStage.PENDING_DEAN,
+            SocietyRegistration.ApprovalStage.PENDING_AR,
+            SocietyRegistration.ApprovalStage.PENDING_VC);
+
+    private final SocietyRepository societyRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final double threshold;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Entries are numbered so postings are plain int arrays and lookups count into an int[]
+    private final List<Entry> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, Posting> postings = new HashMap<>();
+
+    public DuplicateSocietyIndex(SocietyRepository societyRepository,
+                                 SocietyRegistrationRepository registrationRepository,
+                                 @Value("${app.duplicates.threshold:0.6}") double threshold) {
+        this.societyRepository = societyRepository;
+        this.registrationRepository = registrationRepository;
+        this.threshold = threshold;
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Society> societies = societyRepository.findAll();
+        List<SocietyRegistration> registrations = new ArrayList<>();
+        for (SocietyRegistration.ApprovalStage stage : IN_WORKFLOW) {
+            registrations.addAll(registrationRepository.findByStatus(stage));
+        }
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            slots.clear();
+            freeSlots.clear();
+            postings.clear();
+            societies.forEach(this::putSociety);
+            registrations.forEach(this::putRegistration);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        onSocietyChanged(event.society());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegistrationChanged(RegistrationTransitionEvent event) {
+        onRegistrationChanged(event.registration());
+    }
+
+    public void onSocietyChanged(Society society) {
+        lock.writeLock().lock();
+        try {
+            putSociety(society);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a registration while it is in the workflow and drops it once approved
+     * (the society takes its place) or rejected.
+     */
+    public void onRegistrationChanged(SocietyRegistration registration) {
+        if (registration.getId() == null) return;
+        lock.writeLock().lock();
+        try {
+            if (IN_WORKFLOW.contains(registration.getStatus())) {
+                putRegistration(registration);
+            } else {
+                remove(registrationKey(registration.getId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Likely duplicates of a proposed society, best first. {@code excludeRegistrationId}
+     * leaves out the registration being checked when it is already indexed.
+     */
+    public List<DuplicateMatchDto> findDuplicates(String societyName, String aims, Long excludeRegistrationId) {
+        Set<String> trigrams = trigrams(societyName);
+        if (trigrams.isEmpty()) return List.of();
+        Set<String> aimWords = words(aims);
+        String excluded = excludeRegistrationId != null ? registrationKey(excludeRegistrationId) : null;
+
+        // Aims can add at most AIMS_WEIGHT, so the name alone must reach this much
+        double nameThreshold = aimWords.isEmpty() ? threshold : Math.max(0, (threshold - AIMS_WEIGHT) / (1 - AIMS_WEIGHT));
+        int size = trigrams.size();
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Count shared trigrams per entry by walking the postings once
+            int[] counts = new int[slots.size()];
+            int[] touched = new int[64];
+            int touchedCount = 0;
+            for (String trigram : trigrams) {
+                Posting posting = postings.get(trigram);
+                if (posting == null) continue;
+                for (int i = 0; i < posting.size; i++) {
+                    int slot = posting.slots[i];
+                    if (counts[slot]++ == 0) {
+                        if (touchedCount == touched.length) touched = Arrays.copyOf(touched, touchedCount * 2);
+                        touched[touchedCount++] = slot;
+                    }
+                }
+            }
+
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                Entry entry = slots.get(slot);
+                if (entry.key().equals(excluded)) continue;
+
+                double score = 2.0 * counts[slot] / (size + entry.trigrams().size());
+                if (score < nameThreshold) continue;
+                if (!aimWords.isEmpty() && !entry.aimWords().isEmpty()) {
+                    score = (1 - AIMS_WEIGHT) * score + AIMS_WEIGHT * jaccard(aimWords, entry.aimWords());
+                }
+                if (score >= threshold) matches.add(new Match(entry, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingDouble(Match::score).reversed())
+                .limit(MAX_MATCHES)
+                .map(m -> new DuplicateMatchDto(m.entry().source(), m.entry().id(), m.entry().societyName(),
+                        m.entry().year(), m.entry().status(), Math.round(m.score() * 100) / 100.0))
+                .toList();
+    }
+
+    // --- Index maintenance, callers hold the write lock ---
+
+    private void putSociety(Society society) {
+        String key = "society:" + String.join(" ", tokens(society.getSocietyName()));
+        // One row per name and year: the latest year stands for the society
+        Entry existing = entries.get(key);
+        if (existing != null && existing.year() != null && society.getYear() != null
+                && society.getYear() < existing.year()) {
+            return;
+        }
+        put(new Entry(key, -1, "society", society.getId(), society.getSocietyName(), society.getYear(),
+                society.getStatus() != null ? society.getStatus().name() : null,
+                trigrams(society.getSocietyName()), words(society.getAims())));
+    }
+
+    private void putRegistration(SocietyRegistration registration) {
+        put(new Entry(registrationKey(registration.getId()), -1, "registration", registration.getId(),
+                registration.getSocietyName(), registration.getYear(), registration.getStatus().name(),
+                trigrams(registration.getSocietyName()), words(registration.getAims())));
+    }
+
+    private void put(Entry unslotted) {
+        remove(unslotted.key());
+        if (unslotted.trigrams().isEmpty()) return;
+
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : slots.size();
+        Entry entry = unslotted.withSlot(slot);
+        if (free != null) {
+            slots.set(slot, entry);
+        } else {
+            slots.add(entry);
+        }
+        entries.put(entry.key(), entry);
+        for (String trigram : entry.trigrams()) {
+            postings.computeIfAbsent(trigram, t -> new Posting()).add(slot);
+        }
+    }
+
+    private void remove(String key) {
+        Entry old = entries.remove(key);
+        if (old == null) return;
+        for (String trigram : old.trigrams()) {
+            Posting posting = postings.get(trigram);
+            if (posting == null) continue;
+            posting.remove(old.slot());
+            if (posting.size == 0) postings.remove(trigram);
+        }
+        slots.set(old.slot(), null);
+        freeSlots.push(old.slot());
+    }
+
+    private static String registrationKey(Long id) {
+        return "registration:" + id;
+    }
+
+    // --- Text features ---
+
+    /**
+     * Lower-cased words with punctuation removed ("Students'" becomes "students") and the
+     * generic words dropped. Falls back to all words for names made only of generic ones.
+     */
+    static List<String> tokens(String text) {
+        List<String> all = new ArrayList<>();
+        if (text == null) return all;
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (Character.isWhitespace(c) || c == '-' || c == '/' || c == ',' || c == '&') {
+                if (word.length() > 0) {
+                    all.add(word.toString());
+                    word.setLength(0);
+                }
+            }
+        }
+        List<String> significant = all.stream().filter(w -> !GENERIC_WORDS.contains(w)).toList();
+        return significant.isEmpty() ? all : significant;
+    }
+
+    // Each word padded like pg_trgm ("  ieee "), so short words and word starts still count
+    private static Set<String> trigrams(String name) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String token : tokens(name)) {
+            String padded = "  " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String token : tokens(text)) {
+            if (token.length() > 3) words.add(token);
+        }
+        return words;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        int shared = 0;
+        for (String w : a) if (b.contains(w)) shared++;
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private record Entry(String key, int slot, String source, Long id, String societyName, Integer year,
+                         String status, Set<String> trigrams, Set<String> aimWords) {
+
+        Entry withSlot(int slot) {
+            return new Entry(key, slot, source, id, societyName, year, status, trigrams, aimWords);
+        }
+    }
+
+    // Unordered slot list; removal swaps in the last element
+    private static final class Posting {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private record Match(Entry entry, double score) {
+    }
+}
@@ -4,7 +4,11 @@ import lk.ac.pdn.sms.entity.SocietyRegistration;
 import lk.ac.pdn.sms.entity.SocietyRenewal;
 import lk.ac.pdn.sms.entity.EventPermission;
 import lk.ac.pdn.sms.entity.AdminUser;
+import lk.ac.pdn.sms.jfr.EmailSendEvent;
 import lk.ac.pdn.sms.repository.AdminUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -22,6 +26,9 @@ public class EmailService {
     @Autowired
     private AdminUserRepository adminUserRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final String EMAIL_SIGNATURE = "\n\nBest regards,\nStudent Service Division\nUniversity of Peradeniya";
 
     @Async
@@ -303,6 +310,9 @@ public class EmailService {
     }
 
     private void sendEmail(String to, String subject, String text) {
+        EmailSendEvent event = EmailSendEvent.start();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setTo(to);
@@ -310,7 +320,19 @@ public class EmailService {
             message.setText(text);
             mailSender.send(message);
         } catch (Exception e) {
+            outcome = "failure";
+            Counter.builder("sms.email.failures")
+                    .description("Notification emails that could not be handed to the mail server")
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
             System.err.println("Failed to send email to " + to + ": " + e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("sms.email.send")
+                    .description("Time to hand a notification email to the mail server")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            event.finish(to, subject, outcome);
         }
     }
 }
\ No newline at end of file
@@ -5,14 +5,16 @@ import lk.ac.pdn.sms.dto.ApprovalDto;
 import lk.ac.pdn.sms.entity.EventPermission;
 import lk.ac.pdn.sms.entity.AdminUser;
 import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
 import lk.ac.pdn.sms.repository.EventPermissionRepository;
 import lk.ac.pdn.sms.repository.SocietyRepository;
 import lk.ac.pdn.sms.repository.AdminUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -42,7 +44,23 @@ public class EventPermissionService {
     @Autowired
     private PDFService pdfService;
 
+    @Autowired
+    private VenueCalendarService venueCalendarService;
+
+    @Autowired
+    private UpcomingEventsService upcomingEventsService;
+
+    @Autowired
+    private OfficialCredentialIndex officialCredentialIndex;
+
+    @Autowired
+    private SocietyNameIndex societyNameIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public EventPermission submitRequest(EventPermissionDto dto) {
+        dto.setSocietyName(societyNameIndex.canonicalName(dto.getSocietyName()));
         Society society = societyRepository.findBySocietyName(dto.getSocietyName())
                 .orElseThrow(() -> new RuntimeException("Society not found: " + dto.getSocietyName()));
 
@@ -90,7 +108,10 @@ public class EventPermissionService {
 
         event.setStatus(EventPermission.EventStatus.PENDING_DEAN);
 
+        venueCalendarService.assertVenueAvailable(event);
+
         event = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventPermissionTransitionEvent(event, null, event.getApplicantEmail()));
 
         emailService.sendEventPermissionConfirmation(event);
         emailService.notifyDeanForEventApproval(event);
@@ -102,6 +123,7 @@ public class EventPermissionService {
     public EventPermission approveRequest(Long id, ApprovalDto dto, String userEmail) {
         EventPermission event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event request not found"));
+        EventPermission.EventStatus fromStatus = event.getStatus();
 
         AdminUser admin = adminUserRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("Admin user not found"));
@@ -119,6 +141,7 @@ public class EventPermissionService {
 
             case PREMISES_OFFICER:
                 if (event.getStatus() == EventPermission.EventStatus.PENDING_PREMISES) {
+                    venueCalendarService.assertVenueAvailable(event);
                     event.setIsPremisesApproved(true);
                     event.setPremisesApprovalDate(LocalDateTime.now());
                     event.setStatus(EventPermission.EventStatus.PENDING_AR);
@@ -152,6 +175,7 @@ public class EventPermissionService {
         }
 
         event = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventPermissionTransitionEvent(event, fromStatus, admin.getEmail()));
         activityLogService.logActivity("Event Approved", event.getEventName(), admin.getName());
         return event;
     }
@@ -159,6 +183,7 @@ public class EventPermissionService {
     public EventPermission rejectRequest(Long id, ApprovalDto dto, String userEmail) {
         EventPermission event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event request not found"));
+        EventPermission.EventStatus fromStatus = event.getStatus();
 
         AdminUser admin = adminUserRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("Admin user not found"));
@@ -167,6 +192,7 @@ public class EventPermissionService {
         event.setRejectionReason(dto.getReason());
 
         event = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventPermissionTransitionEvent(event, fromStatus, admin.getEmail()));
 
         emailService.sendEventRejectionNotification(event);
         activityLogService.logActivity("Event Rejected", event.getEventName(), admin.getName());
@@ -221,60 +247,17 @@ public class EventPermissionService {
         }
     }
 
+    // Served from memory, so skip opening a transaction (and borrowing a connection)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean validateApplicantPosition(String societyName, String position, String regNo, String email) {
-        Society society = societyRepository.findBySocietyName(societyName)
-                .orElseThrow(() -> new RuntimeException("Society not found"));
-
-        String normalizedRegNo = normalizeRegistrationNumber(regNo);
-
-        String officialRegNo = "";
-        String officialEmail = "";
-
-        switch (position.toLowerCase()) {
-            case "president":
-                officialRegNo = society.getPresidentRegNo();
-                officialEmail = society.getPresidentEmail();
-                break;
-            case "vice president":
-            case "vice-president":
-                officialRegNo = society.getVicePresidentRegNo();
-                officialEmail = society.getVicePresidentEmail();
-                break;
-            case "secretary":
-                officialRegNo = society.getSecretaryRegNo();
-                officialEmail = society.getSecretaryEmail();
-                break;
-            case "joint secretary":
-            case "joint-secretary":
-                officialRegNo = society.getJointSecretaryRegNo();
-                officialEmail = society.getJointSecretaryEmail();
-                break;
-            case "junior treasurer":
-            case "junior-treasurer":
-            case "treasurer":
-                officialRegNo = society.getTreasurerRegNo();
-                officialEmail = society.getTreasurerEmail();
-                break;
-            case "editor":
-                officialRegNo = society.getEditorRegNo();
-                officialEmail = society.getEditorEmail();
-                break;
-            default:
-                return false;
+        if (!officialCredentialIndex.isKnownSociety(societyName)) {
+            throw new RuntimeException("Society not found");
         }
-
-        return normalizeRegistrationNumber(officialRegNo).equals(normalizedRegNo) &&
-               officialEmail.equalsIgnoreCase(email);
-    }
-
-    private String normalizeRegistrationNumber(String regNo) {
-        if (regNo == null) return "";
-        return regNo.toUpperCase().replaceAll("[\\s/]", "");
+        return officialCredentialIndex.matches(societyName, position, regNo, email);
     }
 
-    public List<EventPermission> getUpcomingEvents(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        Page<EventPermission> page = eventRepository.findUpcomingApprovedEvents(LocalDate.now(), pageable);
-        return page.getContent();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UpcomingEventsService.UpcomingEvent> getUpcomingEvents(int limit) {
+        return upcomingEventsService.getUpcoming(limit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.MembershipDto;
+import lk.ac.pdn.sms.entity.*;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reverse index from a student's normalized registration number to the societies they
+ * belong to and the role they hold in each. Entries are packed into a long[] per student
+ * (society id in the high bits, role in the low byte) to keep the map small.
+ *
+ * <p>The roster child tables already hold one row per member and regNo; this is the
+ * inverted view of them and of the societies' office bearers. The whole index is an
+ * immutable {@link State} that a change copies, edits and swaps in, so a reader never sees a
+ * society half re-indexed.
+ */
+@Service
+public class MembershipIndex {
+
+    public enum Role {
+        PRESIDENT, VICE_PRESIDENT, SECRETARY, JOINT_SECRETARY, TREASURER, EDITOR, COMMITTEE_MEMBER, MEMBER;
+
+        public boolean isOfficial() {
+            return this != COMMITTEE_MEMBER && this != MEMBER;
+        }
+    }
+
+    private static final Role[] ROLES = Role.values();
+
+    private final SocietyRepository societyRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final SocietyRenewalRepository renewalRepository;
+
+    private volatile State state = State.EMPTY;
+
+    public MembershipIndex(SocietyRepository societyRepository,
+                           SocietyRegistrationRepository registrationRepository,
+                           SocietyRenewalRepository renewalRepository) {
+        this.societyRepository = societyRepository;
+        this.registrationRepository = registrationRepository;
+        this.renewalRepository = renewalRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        // Rosters come from the most recently approved registration or renewal of each society
+        // Hibernate cannot fetch two List collections (bags) in one query, so the committee and
+        // the members are fetched by separate queries and joined here by id. Reading either
+        // roster off a row from the other query would lazy-load it, one query per application.
+        Map<String, Roster> latestRosters = new HashMap<>();
+        Map<Long, List<String>> registrationCommittees = new HashMap<>();
+        for (SocietyRegistration reg : registrationRepository.findByStatusWithCommittee(SocietyRegistration.ApprovalStage.APPROVED)) {
+            registrationCommittees.put(reg.getId(), regNos(reg.getCommitteeMember(), RegistrationCommitteeMember::getRegNo));
+        }
+        for (SocietyRegistration reg : registrationRepository.findByStatusWithMembers(SocietyRegistration.ApprovalStage.APPROVED)) {
+            offer(latestRosters, reg.getSocietyName(), reg.getApprovedDate(),
+                    registrationCommittees.get(reg.getId()),
+                    regNos(reg.getMember(), RegistrationGeneralMember::getRegNo));
+        }
+        Map<Long, List<String>> renewalCommittees = new HashMap<>();
+        for (SocietyRenewal renewal : renewalRepository.findByStatusWithCommittee(SocietyRenewal.RenewalStatus.APPROVED)) {
+            renewalCommittees.put(renewal.getId(), regNos(renewal.getCommitteeMember(), RenewalCommitteeMember::getRegNo));
+        }
+        for (SocietyRenewal renewal : renewalRepository.findByStatusWithMembers(SocietyRenewal.RenewalStatus.APPROVED)) {
+            offer(latestRosters, renewal.getSocietyName(), renewal.getApprovedDate(),
+                    renewalCommittees.get(renewal.getId()),
+                    regNos(renewal.getMember(), RenewalSocietyMember::getRegNo));
+        }
+
+        Draft draft = new Draft(State.EMPTY);
+        for (Society society : societyRepository.findAll()) {
+            Roster roster = latestRosters.get(TextNormalizer.normalizeName(society.getSocietyName()));
+            draft.reindex(society,
+                    roster != null ? roster.committee() : null,
+                    roster != null ? roster.members() : null);
+        }
+        state = draft.publish();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        reindexSociety(event.society(), event.committeeRegNos(), event.memberRegNos());
+    }
+
+    /**
+     * Replaces everything indexed for one society. A null roster leaves the previously
+     * indexed entries for that role group in place (renewals do not always carry rosters).
+     */
+    public synchronized void reindexSociety(Society society, Collection<String> committeeRegNos, Collection<String> memberRegNos) {
+        if (society.getId() == null) return;
+        Draft draft = new Draft(state);
+        draft.reindex(society, committeeRegNos, memberRegNos);
+        state = draft.publish();
+    }
+
+    public List<MembershipDto> getMemberships(String regNo) {
+        return memberships(state, TextNormalizer.normalizeRegNo(regNo));
+    }
+
+    /**
+     * Students holding official posts in more than {@code maxPosts} different societies.
+     */
+    public Map<String, List<MembershipDto>> findOverCommittedOfficials(int maxPosts) {
+        State current = state;
+        Map<String, List<MembershipDto>> result = new TreeMap<>();
+        current.byRegNo().forEach((regNo, entries) -> {
+            long officialSocieties = Arrays.stream(entries)
+                    .filter(e -> ROLES[(int) (e & 0xFF)].isOfficial())
+                    .map(e -> e >>> 8)
+                    .distinct()
+                    .count();
+            if (officialSocieties > maxPosts) {
+                result.put(regNo, memberships(current, regNo).stream()
+                        .filter(MembershipDto::isOfficial)
+                        .collect(Collectors.toList()));
+            }
+        });
+        return result;
+    }
+
+    private static List<MembershipDto> memberships(State current, String key) {
+        long[] entries = current.byRegNo().getOrDefault(key, new long[0]);
+        List<MembershipDto> result = new ArrayList<>(entries.length);
+        for (long entry : entries) {
+            long societyId = entry >>> 8;
+            Role role = ROLES[(int) (entry & 0xFF)];
+            result.add(new MembershipDto(key, societyId, current.societyNames().get(societyId), role.name(), role.isOfficial()));
+        }
+        return result;
+    }
+
+    private static void addRole(Map<String, EnumSet<Role>> next, String regNo, Role role) {
+        String key = TextNormalizer.normalizeRegNo(regNo);
+        if (key.isEmpty()) return;
+        next.computeIfAbsent(key, k -> EnumSet.noneOf(Role.class)).add(role);
+    }
+
+    private static long pack(long societyId, Role role) {
+        return (societyId << 8) | role.ordinal();
+    }
+
+    private static <T> List<String> regNos(List<T> rows, Function<T, String> regNo) {
+        return rows == null ? null : rows.stream().map(regNo).collect(Collectors.toList());
+    }
+
+    private static void offer(Map<String, Roster> latest, String societyName, LocalDateTime approvedDate,
+                              List<String> committee, List<String> members) {
+        String key = TextNormalizer.normalizeName(societyName);
+        Roster current = latest.get(key);
+        LocalDateTime at = approvedDate != null ? approvedDate : LocalDateTime.MIN;
+        if (current == null || at.isAfter(current.approvedDate())) {
+            latest.put(key, new Roster(at, committee, members));
+        }
+    }
+
+    private record Roster(LocalDateTime approvedDate, List<String> committee, List<String> members) {
+    }
+
+    // Never modified once published; the long[] entries and regNo sets are replaced, not edited
+    private record State(Map<String, long[]> byRegNo, Map<Long, Set<String>> regNosBySociety,
+                         Map<Long, String> societyNames) {
+        static final State EMPTY = new State(Map.of(), Map.of(), Map.of());
+    }
+
+    // Shallow copy of a state that one change (or a whole rebuild) edits before it is published
+    private static final class Draft {
+        private final Map<String, long[]> byRegNo;
+        private final Map<Long, Set<String>> regNosBySociety;
+        private final Map<Long, String> societyNames;
+
+        Draft(State from) {
+            byRegNo = new HashMap<>(from.byRegNo());
+            regNosBySociety = new HashMap<>(from.regNosBySociety());
+            societyNames = new HashMap<>(from.societyNames());
+        }
+
+        // See reindexSociety
+        void reindex(Society society, Collection<String> committeeRegNos, Collection<String> memberRegNos) {
+            Long societyId = society.getId();
+            if (societyId == null) return;
+
+            Map<String, EnumSet<Role>> next = new HashMap<>();
+            addRole(next, society.getPresidentRegNo(), Role.PRESIDENT);
+            addRole(next, society.getVicePresidentRegNo(), Role.VICE_PRESIDENT);
+            addRole(next, society.getSecretaryRegNo(), Role.SECRETARY);
+            addRole(next, society.getJointSecretaryRegNo(), Role.JOINT_SECRETARY);
+            addRole(next, society.getTreasurerRegNo(), Role.TREASURER);
+            addRole(next, society.getEditorRegNo(), Role.EDITOR);
+
+            addRoster(next, societyId, committeeRegNos, Role.COMMITTEE_MEMBER);
+            addRoster(next, societyId, memberRegNos, Role.MEMBER);
+
+            removeSociety(societyId);
+            societyNames.put(societyId, society.getSocietyName());
+            next.forEach((regNo, roles) -> roles.forEach(role -> add(regNo, pack(societyId, role))));
+            regNosBySociety.put(societyId, new HashSet<>(next.keySet()));
+        }
+
+        State publish() {
+            return new State(Collections.unmodifiableMap(byRegNo), Collections.unmodifiableMap(regNosBySociety),
+                    Collections.unmodifiableMap(societyNames));
+        }
+
+        // Keeps previously indexed roster roles when the caller has no roster for this group
+        private void addRoster(Map<String, EnumSet<Role>> next, Long societyId, Collection<String> regNos, Role role) {
+            if (regNos != null) {
+                for (String regNo : regNos) addRole(next, regNo, role);
+                return;
+            }
+            for (String regNo : regNosBySociety.getOrDefault(societyId, Set.of())) {
+                for (long entry : byRegNo.getOrDefault(regNo, new long[0])) {
+                    if (entry == pack(societyId, role)) next.computeIfAbsent(regNo, k -> EnumSet.noneOf(Role.class)).add(role);
+                }
+            }
+        }
+
+        private void removeSociety(Long societyId) {
+            Set<String> previous = regNosBySociety.remove(societyId);
+            if (previous == null) return;
+            for (String regNo : previous) {
+                byRegNo.computeIfPresent(regNo, (k, entries) -> {
+                    long[] kept = Arrays.stream(entries).filter(e -> (e >>> 8) != societyId).toArray();
+                    return kept.length == 0 ? null : kept;
+                });
+            }
+        }
+
+        private void add(String regNo, long entry) {
+            byRegNo.merge(regNo, new long[]{entry}, (existing, added) -> {
+                long[] grown = Arrays.copyOf(existing, existing.length + 1);
+                grown[existing.length] = entry;
+                return grown;
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-normalized office bearer credentials per society, used to check that an event
+ * applicant really holds the position they claim. Built at startup and refreshed whenever
+ * a society is created or renewed, so each check is two hash lookups.
+ */
+@Service
+public class OfficialCredentialIndex {
+
+    public enum Role {
+        PRESIDENT, VICE_PRESIDENT, SECRETARY, JOINT_SECRETARY, TREASURER, EDITOR
+    }
+
+    // Position labels accepted from the event form, already lower-cased
+    private static final Map<String, Role> POSITIONS = Map.of(
+            "president", Role.PRESIDENT,
+            "vice president", Role.VICE_PRESIDENT,
+            "vice-president", Role.VICE_PRESIDENT,
+            "secretary", Role.SECRETARY,
+            "joint secretary", Role.JOINT_SECRETARY,
+            "joint-secretary", Role.JOINT_SECRETARY,
+            "junior treasurer", Role.TREASURER,
+            "junior-treasurer", Role.TREASURER,
+            "treasurer", Role.TREASURER,
+            "editor", Role.EDITOR);
+
+    private final SocietyRepository societyRepository;
+
+    // Rebuilt off to the side and swapped in whole, so a check never sees a half-filled index
+    private volatile Map<String, Map<Role, Credential>> credentials = new ConcurrentHashMap<>();
+
+    public OfficialCredentialIndex(SocietyRepository societyRepository) {
+        this.societyRepository = societyRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Map<String, Map<Role, Credential>> next = new ConcurrentHashMap<>();
+        // When a name exists for several years the latest row wins, as it holds the current officials
+        societyRepository.findAll().stream()
+                .sorted(Comparator.comparing(Society::getYear, Comparator.nullsFirst(Comparator.<Integer>naturalOrder())))
+                .forEach(society -> next.put(key(society), roles(society)));
+        credentials = next;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        onSocietyChanged(event.society());
+    }
+
+    public synchronized void onSocietyChanged(Society society) {
+        credentials.put(key(society), roles(society));
+    }
+
+    public boolean isKnownSociety(String societyName) {
+        return credentials.containsKey(TextNormalizer.normalizeName(societyName));
+    }
+
+    /**
+     * True when regNo and email match the official currently holding the given position.
+     * Unknown positions never match.
+     */
+    public boolean matches(String societyName, String position, String regNo, String email) {
+        Map<Role, Credential> roles = credentials.get(TextNormalizer.normalizeName(societyName));
+        if (roles == null || position == null) return false;
+
+        Role role = POSITIONS.get(position.trim().toLowerCase());
+        Credential official = role != null ? roles.get(role) : null;
+        if (official == null || email == null) return false;
+
+        return official.regNo().equals(TextNormalizer.normalizeRegNo(regNo))
+                && official.email().equalsIgnoreCase(email.trim());
+    }
+
+    private static String key(Society society) {
+        return TextNormalizer.normalizeName(society.getSocietyName());
+    }
+
+    private static Map<Role, Credential> roles(Society society) {
+        Map<Role, Credential> roles = new EnumMap<>(Role.class);
+        put(roles, Role.PRESIDENT, society.getPresidentRegNo(), society.getPresidentEmail());
+        put(roles, Role.VICE_PRESIDENT, society.getVicePresidentRegNo(), society.getVicePresidentEmail());
+        put(roles, Role.SECRETARY, society.getSecretaryRegNo(), society.getSecretaryEmail());
+        put(roles, Role.JOINT_SECRETARY, society.getJointSecretaryRegNo(), society.getJointSecretaryEmail());
+        put(roles, Role.TREASURER, society.getTreasurerRegNo(), society.getTreasurerEmail());
+        put(roles, Role.EDITOR, society.getEditorRegNo(), society.getEditorEmail());
+        return roles;
+    }
+
+    private static void put(Map<Role, Credential> roles, Role role, String regNo, String email) {
+        if (regNo == null || email == null) return;
+        roles.put(role, new Credential(TextNormalizer.normalizeRegNo(regNo), email.trim().toLowerCase()));
+    }
+
+    private record Credential(String regNo, String email) {
+    }
+}
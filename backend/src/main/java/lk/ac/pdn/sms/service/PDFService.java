@@ -4,30 +4,40 @@ import lk.ac.pdn.sms.dto.SocietyRegistrationDto;
 import lk.ac.pdn.sms.entity.SocietyRegistration;
 import lk.ac.pdn.sms.entity.SocietyRenewal;
 import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.jfr.PdfRenderEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
 
 @Service
 public class PDFService {
 
+    private final MeterRegistry meterRegistry;
+
+    public PDFService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     public byte[] generateRegistrationPDF(SocietyRegistration registration) throws IOException {
-        return generatePDFContent(
+        return timed("registration", () -> generatePDFContent(
                 registration.getSocietyName(),
                 registration.getApplicantFullName(),
                 registration.getApplicantFaculty(),
                 registration.getSeniorTreasurerFullName()
-        );
+        ));
     }
 
     public byte[] generateRegistrationPreviewPDF(SocietyRegistrationDto dto) throws IOException {
-        return generatePDFContent(
+        return timed("registration-preview", () -> generatePDFContent(
                 dto.getSocietyName(),
                 dto.getApplicantFullName(),
                 dto.getApplicantFaculty(),
                 dto.getSeniorTreasurerFullName()
-        );
+        ));
     }
 
     private byte[] generatePDFContent(String societyName, String applicant, String faculty, String treasurer) {
@@ -48,12 +58,27 @@ public class PDFService {
     }
 
     public byte[] generateRenewalPDF(SocietyRenewal renewal) throws IOException {
-        String pdfContent = "UNIVERSITY OF PERADENIYA\nSOCIETY RENEWAL\n" + renewal.getSocietyName();
-        return pdfContent.getBytes(StandardCharsets.UTF_8);
+        return timed("renewal", () -> {
+            String pdfContent = "UNIVERSITY OF PERADENIYA\nSOCIETY RENEWAL\n" + renewal.getSocietyName();
+            return pdfContent.getBytes(StandardCharsets.UTF_8);
+        });
     }
 
     public byte[] generateEventPermissionPDF(EventPermission event) throws IOException {
-        String pdfContent = "UNIVERSITY OF PERADENIYA\nEVENT PERMISSION\n" + event.getEventName();
-        return pdfContent.getBytes(StandardCharsets.UTF_8);
+        return timed("event", () -> {
+            String pdfContent = "UNIVERSITY OF PERADENIYA\nEVENT PERMISSION\n" + event.getEventName();
+            return pdfContent.getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
+    private byte[] timed(String document, Supplier<byte[]> render) {
+        PdfRenderEvent event = PdfRenderEvent.start();
+        byte[] rendered = Timer.builder("sms.pdf.render")
+                .description("PDF render time per document type")
+                .tag("document", document)
+                .register(meterRegistry)
+                .record(render);
+        event.finish(document, rendered);
+        return rendered;
     }
 }
\ No newline at end of file
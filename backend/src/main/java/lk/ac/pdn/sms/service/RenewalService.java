@@ -3,11 +3,15 @@ package lk.ac.pdn.sms.service;
 import lk.ac.pdn.sms.dto.SocietyRenewalDto;
 import lk.ac.pdn.sms.dto.ApprovalDto;
 import lk.ac.pdn.sms.entity.*;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
 import lk.ac.pdn.sms.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -16,7 +20,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +29,6 @@ public class RenewalService {
     @Autowired
     private SocietyRenewalRepository renewalRepository;
 
-    @Autowired
-    private SocietyRegistrationRepository registrationRepository;
-
     @Autowired
     private SocietyRepository societyRepository;
 
@@ -44,11 +44,32 @@ public class RenewalService {
     @Autowired
     private PDFService pdfService;
 
+    @Autowired
+    private AggregateCache aggregateCache;
+
+    @Autowired
+    private SocietyNameIndex societyNameIndex;
+
+    @Autowired
+    private SubmissionExistenceFilter submissionExistenceFilter;
+
+    @Autowired
+    private SocietyProfileService societyProfileService;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public SocietyRenewal submitRenewal(SocietyRenewalDto dto) {
+        dto.setSocietyName(societyNameIndex.canonicalName(dto.getSocietyName()));
         Society existingSociety = societyRepository.findBySocietyName(dto.getSocietyName())
                 .orElseThrow(() -> new RuntimeException("Society not found with name: " + dto.getSocietyName()));
 
-        if (renewalRepository.existsBySocietyNameAndYear(dto.getSocietyName(), LocalDate.now().getYear())) {
+        int year = LocalDate.now().getYear();
+        if (submissionExistenceFilter.exists(SubmissionExistenceFilter.Kind.RENEWAL, dto.getSocietyName(), year,
+                () -> renewalRepository.existsBySocietyNameAndYear(dto.getSocietyName(), year))) {
             throw new RuntimeException("Renewal already submitted for this society in current year");
         }
 
@@ -58,6 +79,7 @@ public class RenewalService {
         renewal.setSubmittedDate(LocalDateTime.now());
 
         renewal = renewalRepository.save(renewal);
+        eventPublisher.publishEvent(new RenewalTransitionEvent(renewal, null, renewal.getApplicantEmail()));
 
         // Notifications
         emailService.sendRenewalConfirmation(renewal);
@@ -70,25 +92,7 @@ public class RenewalService {
 
     // NEW: Fetch latest data for pre-filling the form
     public SocietyRenewalDto getLatestSocietyData(String societyName) {
-        // 1. Try to find latest approved renewal
-        Optional<SocietyRenewal> lastRenewal = renewalRepository.findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
-                societyName, SocietyRenewal.RenewalStatus.APPROVED);
-
-        // 2. Try to find approved registration
-        Optional<SocietyRegistration> registration = registrationRepository.findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
-                societyName, SocietyRegistration.ApprovalStage.APPROVED);
-
-        if (lastRenewal.isPresent()) {
-            // If registration is newer than renewal (rare, but possible if re-registered), use registration
-            if (registration.isPresent() && registration.get().getApprovedDate().isAfter(lastRenewal.get().getApprovedDate())) {
-                return mapRegistrationToRenewalDto(registration.get());
-            }
-            return mapRenewalToDto(lastRenewal.get());
-        } else if (registration.isPresent()) {
-            return mapRegistrationToRenewalDto(registration.get());
-        }
-
-        return new SocietyRenewalDto(); // Return empty if no history found
+        return societyProfileService.getPrefill(societyNameIndex.canonicalName(societyName));
     }
 
     public List<SocietyRenewal> getPendingRenewals(String faculty, String status, String userEmail) {
@@ -122,6 +126,7 @@ public class RenewalService {
 
     public SocietyRenewal approveRenewal(Long id, ApprovalDto approvalDto, String userEmail) {
         SocietyRenewal renewal = getRenewalById(id);
+        SocietyRenewal.RenewalStatus fromStatus = renewal.getStatus();
         AdminUser admin = adminUserRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("Admin user not found"));
 
@@ -158,6 +163,7 @@ public class RenewalService {
         }
 
         renewal = renewalRepository.save(renewal);
+        eventPublisher.publishEvent(new RenewalTransitionEvent(renewal, fromStatus, admin.getEmail()));
         activityLogService.logActivity("Renewal Approved", renewal.getSocietyName(), admin.getName());
 
         return renewal;
@@ -165,12 +171,14 @@ public class RenewalService {
 
     public SocietyRenewal rejectRenewal(Long id, ApprovalDto approvalDto, String userEmail) {
         SocietyRenewal renewal = getRenewalById(id);
+        SocietyRenewal.RenewalStatus fromStatus = renewal.getStatus();
         AdminUser admin = adminUserRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("Admin user not found"));
 
         renewal.setStatus(SocietyRenewal.RenewalStatus.REJECTED);
         renewal.setRejectionReason(approvalDto.getReason());
         renewal = renewalRepository.save(renewal);
+        eventPublisher.publishEvent(new RenewalTransitionEvent(renewal, fromStatus, admin.getEmail()));
 
         emailService.sendRenewalRejectionNotification(renewal);
         activityLogService.logActivity("Renewal Rejected", renewal.getSocietyName(), admin.getName());
@@ -198,64 +206,27 @@ public class RenewalService {
         }
     }
 
+    // Served from AggregateCache; NOT_SUPPORTED so a cache hit does not check out a connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getRenewalStatistics() {
+        return aggregateCache.get(AggregateCache.RENEWAL_STATISTICS, this::computeRenewalStatistics);
+    }
+
+    private Map<String, Object> computeRenewalStatistics() {
         Map<String, Object> stats = new HashMap<>();
         int currentYear = LocalDate.now().getYear();
 
-        stats.put("totalRenewals", renewalRepository.count());
-        stats.put("currentYearRenewals", renewalRepository.countByYear(currentYear));
-        stats.put("approvedRenewals", renewalRepository.countByStatus(SocietyRenewal.RenewalStatus.APPROVED));
+        // Application counts come from the statistics rollup
+        ApplicationTransition.ApplicationType renewals = ApplicationTransition.ApplicationType.RENEWAL;
+        stats.put("totalRenewals", statisticsRollupService.count(renewals, null, null));
+        stats.put("currentYearRenewals", statisticsRollupService.count(renewals, currentYear, null));
+        stats.put("approvedRenewals", statisticsRollupService.count(renewals, null, SocietyRenewal.RenewalStatus.APPROVED.name()));
 
-        return stats;
+        return Map.copyOf(stats);
     }
 
     // --- Mapping Helpers ---
 
-    private SocietyRenewalDto mapRenewalToDto(SocietyRenewal entity) {
-        SocietyRenewalDto dto = new SocietyRenewalDto();
-        dto.setSocietyName(entity.getSocietyName());
-        dto.setBankAccount(entity.getBankAccount());
-        dto.setBankName(entity.getBankName());
-        dto.setWebsite(entity.getWebsite());
-        // Map other fields as needed...
-        return dto;
-    }
-
-    private SocietyRenewalDto mapRegistrationToRenewalDto(SocietyRegistration entity) {
-        SocietyRenewalDto dto = new SocietyRenewalDto();
-        dto.setSocietyName(entity.getSocietyName());
-        dto.setBankAccount(entity.getBankAccount());
-        dto.setBankName(entity.getBankName());
-        dto.setApplicantFullName(entity.getApplicantFullName());
-        dto.setApplicantEmail(entity.getApplicantEmail());
-        dto.setApplicantFaculty(entity.getApplicantFaculty());
-        dto.setApplicantMobile(entity.getApplicantMobile());
-        dto.setApplicantRegNo(entity.getApplicantRegNo());
-
-        dto.setSeniorTreasurerTitle(entity.getSeniorTreasurerTitle());
-        dto.setSeniorTreasurerFullName(entity.getSeniorTreasurerFullName());
-        dto.setSeniorTreasurerEmail(entity.getSeniorTreasurerEmail());
-        dto.setSeniorTreasurerMobile(entity.getSeniorTreasurerMobile());
-        dto.setSeniorTreasurerDesignation(entity.getSeniorTreasurerDesignation());
-        dto.setSeniorTreasurerDepartment(entity.getSeniorTreasurerDepartment());
-        dto.setSeniorTreasurerAddress(entity.getSeniorTreasurerAddress());
-
-        dto.setPresidentName(entity.getPresidentName());
-        dto.setPresidentEmail(entity.getPresidentEmail());
-        dto.setPresidentMobile(entity.getPresidentMobile());
-        dto.setPresidentRegNo(entity.getPresidentRegNo());
-        dto.setPresidentAddress(entity.getPresidentAddress());
-
-        dto.setSecretaryName(entity.getSecretaryName());
-        dto.setSecretaryEmail(entity.getSecretaryEmail());
-        dto.setSecretaryMobile(entity.getSecretaryMobile());
-        dto.setSecretaryRegNo(entity.getSecretaryRegNo());
-        dto.setSecretaryAddress(entity.getSecretaryAddress());
-
-        // ... map remaining officials ...
-        return dto;
-    }
-
     private SocietyRenewal convertToEntity(SocietyRenewalDto dto) {
         SocietyRenewal renewal = new SocietyRenewal();
         renewal.setApplicantFullName(dto.getApplicantFullName());
@@ -289,6 +260,7 @@ public class RenewalService {
                 .orElseThrow(() -> new RuntimeException("Society not found"));
         society.setWebsite(renewal.getWebsite());
         society.setYear(renewal.getRenewalYear());
-        societyRepository.save(society);
+        society = societyRepository.save(society);
+        eventPublisher.publishEvent(SocietyChangedEvent.renewalApproved(society, renewal));
     }
 }
\ No newline at end of file
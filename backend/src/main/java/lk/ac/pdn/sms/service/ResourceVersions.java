@@ -0,0 +1,62 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version tokens for the public read APIs, kept in memory so a conditional GET can be
+ * answered with 304 without touching the database. Every write path that changes what a
+ * public endpoint returns bumps the matching token; the HTTP layer turns the tokens into
+ * ETags (see {@code HttpCachingConfig}).
+ */
+@Component
+public class ResourceVersions {
+
+    /** Society lists: /public and /latest-data. */
+    public static final String SOCIETIES = "societies";
+    /** Venue bookings and free slots, served from {@link VenueCalendarService}. */
+    public static final String VENUES = "venues";
+
+    // Seeded from the clock so ETags issued before a restart never match the new state
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> societyVersions = new ConcurrentHashMap<>();
+
+    public long get(String resource) {
+        return counter(resource).get();
+    }
+
+    public long getSociety(Long id) {
+        return societyVersions.getOrDefault(id, epoch);
+    }
+
+    /**
+     * Bumps the token right away. For state that lives in memory, call it after the state
+     * has been updated, so a reader can only pair an old token with newer data, never the
+     * other way round.
+     */
+    public void bump(String resource) {
+        counter(resource).incrementAndGet();
+    }
+
+    /**
+     * Bumps the society's own token and the society lists once the transaction commits,
+     * since those endpoints read the committed rows.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        Long id = event.society().getId();
+        if (id != null) societyVersions.merge(id, epoch + 1, (old, ignored) -> old + 1);
+        bump(SOCIETIES);
+    }
+
+    private AtomicLong counter(String resource) {
+        return versions.computeIfAbsent(resource, r -> new AtomicLong(epoch));
+    }
+}
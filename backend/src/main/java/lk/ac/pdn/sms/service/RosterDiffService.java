@@ -0,0 +1,122 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.RosterDiffDto;
+import lk.ac.pdn.sms.dto.SocietyRenewalDto;
+import lk.ac.pdn.sms.entity.SocietyProfile;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Compares a renewal's committee and member lists with the society's previous approved
+ * profile, so a reviewer sees who joined, who left and whose name changed instead of reading
+ * both lists in full. Entries are matched by normalized registration number through a hash
+ * map, so a diff is linear in the roster size.
+ */
+@Service
+public class RosterDiffService {
+
+    private final SocietyRenewalRepository renewalRepository;
+    private final SocietyHistoryService societyHistoryService;
+
+    public RosterDiffService(SocietyRenewalRepository renewalRepository,
+                             SocietyHistoryService societyHistoryService) {
+        this.renewalRepository = renewalRepository;
+        this.societyHistoryService = societyHistoryService;
+    }
+
+    @Transactional(readOnly = true)
+    public RosterDiffDto diffRenewal(Long renewalId) {
+        SocietyRenewal renewal = renewalRepository.findById(renewalId)
+                .orElseThrow(() -> new RuntimeException("Renewal not found with id: " + renewalId));
+
+        Optional<SocietyHistoryService.VersionedProfile> baseline = societyHistoryService.getBaseline(
+                renewal.getSocietyName(), renewal.getYear(), SocietyProfile.Source.RENEWAL, renewal.getId());
+        SocietyRenewalDto previous = baseline.map(SocietyHistoryService.VersionedProfile::profile).orElse(null);
+
+        RosterDiffDto.RosterChanges committee = diff(
+                entries(previous != null ? previous.getCommitteeMember() : null,
+                        c -> new RosterDiffDto.Entry(c.getRegNo(), c.getName())),
+                entries(renewal.getCommitteeMember(),
+                        c -> new RosterDiffDto.Entry(c.getRegNo(), c.getName())));
+        RosterDiffDto.RosterChanges members = diff(
+                entries(previous != null ? previous.getMember() : null,
+                        m -> new RosterDiffDto.Entry(m.getRegNo(), m.getName())),
+                entries(renewal.getMember(),
+                        m -> new RosterDiffDto.Entry(m.getRegNo(), m.getName())));
+
+        return new RosterDiffDto(renewal.getId(), renewal.getSocietyName(), renewal.getYear(),
+                baseline.map(SocietyHistoryService.VersionedProfile::year).orElse(null), committee, members);
+    }
+
+    /**
+     * Splits two rosters by normalized registration number. A number listed twice in
+     * {@code current} matches at most one previous entry; the repeat counts as added.
+     * Entries without a registration number are matched by normalized name instead, and
+     * entries with neither are left out of the lists.
+     */
+    static RosterDiffDto.RosterChanges diff(List<RosterDiffDto.Entry> previous, List<RosterDiffDto.Entry> current) {
+        Map<String, RosterDiffDto.Entry> remaining = new LinkedHashMap<>(previous.size() * 2);
+        Map<String, Deque<RosterDiffDto.Entry>> remainingByName = new LinkedHashMap<>();
+        List<RosterDiffDto.Entry> removed = new ArrayList<>();
+        for (RosterDiffDto.Entry entry : previous) {
+            String key = TextNormalizer.normalizeRegNo(entry.getRegNo());
+            if (key.isEmpty()) {
+                String name = TextNormalizer.normalizeName(entry.getName());
+                if (!name.isEmpty()) remainingByName.computeIfAbsent(name, n -> new ArrayDeque<>()).add(entry);
+                continue;
+            }
+            // Earlier duplicates in last year's list cannot be matched by anything, so they left
+            RosterDiffDto.Entry replaced = remaining.put(key, entry);
+            if (replaced != null) removed.add(replaced);
+        }
+
+        List<RosterDiffDto.Entry> added = new ArrayList<>();
+        List<RosterDiffDto.Renamed> renamed = new ArrayList<>();
+        int unchanged = 0;
+        for (RosterDiffDto.Entry entry : current) {
+            String key = TextNormalizer.normalizeRegNo(entry.getRegNo());
+            if (key.isEmpty()) {
+                String name = TextNormalizer.normalizeName(entry.getName());
+                if (name.isEmpty()) continue;
+                Deque<RosterDiffDto.Entry> sameName = remainingByName.get(name);
+                if (sameName != null && sameName.poll() != null) {
+                    unchanged++;
+                } else {
+                    added.add(entry);
+                }
+                continue;
+            }
+            RosterDiffDto.Entry before = remaining.remove(key);
+            if (before == null) {
+                added.add(entry);
+            } else if (!TextNormalizer.normalizeName(before.getName()).equals(TextNormalizer.normalizeName(entry.getName()))) {
+                renamed.add(new RosterDiffDto.Renamed(entry.getRegNo(), before.getName(), entry.getName()));
+            } else {
+                unchanged++;
+            }
+        }
+        removed.addAll(remaining.values());
+        remainingByName.values().forEach(removed::addAll);
+        return new RosterDiffDto.RosterChanges(previous.size(), current.size(), unchanged, added, removed, renamed);
+    }
+
+    private static <T> List<RosterDiffDto.Entry> entries(List<T> roster, Function<T, RosterDiffDto.Entry> mapper) {
+        if (roster == null) return Collections.emptyList();
+        List<RosterDiffDto.Entry> result = new ArrayList<>(roster.size());
+        for (T item : roster) result.add(mapper.apply(item));
+        return result;
+    }
+}
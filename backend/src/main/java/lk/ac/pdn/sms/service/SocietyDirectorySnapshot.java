@@ -0,0 +1,184 @@
+package lk.ac.pdn.sms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-rendered JSON directory of active societies, served by {@code GET /api/societies/active}
+ * without touching the database. The plain and gzip bodies are kept in memory and written
+ * to {@code app.directory.snapshot-dir} so large bodies can go out with Tomcat's sendfile.
+ *
+ * <p>Society saves schedule a republish after commit. Requests that arrive while one is
+ * running collapse into a single follow-up, so a burst of approvals costs two queries.
+ */
+@Service
+public class SocietyDirectorySnapshot {
+
+    private static final String FILE_PREFIX = "active-societies-";
+
+    private final SocietyRepository societyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+    private final Path directory;
+    private final AtomicBoolean republishPending = new AtomicBoolean();
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "sms-directory-publisher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile Snapshot current;
+
+    public SocietyDirectorySnapshot(SocietyRepository societyRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.directory.snapshot-dir:${java.io.tmpdir}/sms-directory}") String snapshotDir) {
+        this.societyRepository = societyRepository;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.directory = Path.of(snapshotDir);
+    }
+
+    public void rebuild() {
+        publish();
+    }
+
+    /**
+     * The current snapshot, rendered on the spot if nothing has been published yet.
+     */
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : publish();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        if (!republishPending.compareAndSet(false, true)) return;
+        try {
+            publisher.execute(() -> {
+                // Cleared first: a save that commits while this render runs schedules another
+                republishPending.set(false);
+                try {
+                    publish();
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to republish the society directory: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            republishPending.set(false);
+        }
+    }
+
+    private synchronized Snapshot publish() {
+        List<Society> active = readOnly.execute(status -> societyRepository.findByStatus(Society.SocietyStatus.ACTIVE));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(active);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not render the society directory", e);
+        }
+        byte[] gzip = gzip(json);
+        String hash = sha256(json);
+
+        Snapshot previous = current;
+        Snapshot next = new Snapshot(json, gzip, "\"directory-" + hash + "\"", "\"directory-" + hash + "-gzip\"",
+                write(FILE_PREFIX + hash + ".json", json), write(FILE_PREFIX + hash + ".json.gz", gzip));
+        current = next;
+        deleteStaleFiles(next, previous);
+        return next;
+    }
+
+    private Path write(String name, byte[] content) {
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(name);
+            if (Files.exists(target) && Files.size(target) == content.length) return target;
+            Path temp = Files.createTempFile(directory, name, ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            // Still served from memory, just without sendfile
+            System.err.println("Could not write directory snapshot " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Keeps the previous files too: a sendfile transfer of the old snapshot may still be in flight
+    private void deleteStaleFiles(Snapshot next, Snapshot previous) {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().startsWith(FILE_PREFIX))
+                    .filter(f -> !next.owns(f) && (previous == null || !previous.owns(f)))
+                    .forEach(f -> {
+                        try {
+                            Files.deleteIfExists(f);
+                        } catch (IOException e) {
+                            System.err.println("Could not delete old directory snapshot " + f + ": " + e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            System.err.println("Could not clean up directory snapshots: " + e.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content), 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    /**
+     * One rendered directory. Each encoding has its own ETag, since the bytes differ.
+     * The file paths are null when the snapshot could not be written to disk.
+     */
+    public record Snapshot(byte[] json, byte[] gzip, String etag, String gzipEtag, Path jsonFile, Path gzipFile) {
+
+        boolean owns(Path file) {
+            return file.equals(jsonFile) || file.equals(gzipFile);
+        }
+    }
+}
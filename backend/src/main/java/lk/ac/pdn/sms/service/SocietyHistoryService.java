@@ -0,0 +1,245 @@
+package lk.ac.pdn.sms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lk.ac.pdn.sms.dto.SocietyProfileDiffDto;
+import lk.ac.pdn.sms.dto.SocietyRenewalDto;
+import lk.ac.pdn.sms.dto.SocietyVersionDto;
+import lk.ac.pdn.sms.entity.SocietyProfile;
+import lk.ac.pdn.sms.entity.SocietyProfileVersion;
+import lk.ac.pdn.sms.repository.SocietyProfileVersionRepository;
+import lk.ac.pdn.sms.util.JsonDelta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Year-by-year history of each society's approved profile (the same document as the renewal
+ * pre-fill). Every VC approval appends a version holding only what changed since the one
+ * before, so a society whose roster turns over by a third keeps roughly a third of a roster
+ * per year instead of a full copy. Every {@code app.society-history.keyframe-interval}
+ * versions a full document is stored, which bounds how many deltas a read replays.
+ *
+ * <p>Reads load the society's versions in one query and replay from the nearest keyframe.
+ * The current profile is also cached by {@link SocietyProfileService}.
+ */
+@Service
+public class SocietyHistoryService {
+
+    // Field-name prefixes per section of the form, for narrowing a diff
+    private static final Map<String, List<String>> SECTIONS = Map.of(
+            "officials", List.of("president", "vicePresident", "secretary", "jointSecretary",
+                    "juniorTreasurer", "editor", "seniorTreasurer"),
+            "bank", List.of("bank"),
+            "advisory", List.of("advisoryBoard"),
+            "members", List.of("committeeMember", "member"));
+
+    private final SocietyProfileVersionRepository versionRepository;
+    private final SocietyNameIndex societyNameIndex;
+    private final ObjectMapper objectMapper;
+    private final int keyframeInterval;
+
+    public SocietyHistoryService(SocietyProfileVersionRepository versionRepository,
+                                 SocietyNameIndex societyNameIndex,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.society-history.keyframe-interval:8}") int keyframeInterval) {
+        this.versionRepository = versionRepository;
+        this.societyNameIndex = societyNameIndex;
+        this.objectMapper = objectMapper;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    /**
+     * Appends {@code profile} as the society's next version. Recording the same application
+     * twice in a row is a no-op.
+     */
+    public void record(String societyName, Integer year, SocietyProfile.Source sourceType, Long sourceId,
+                       LocalDateTime approvedDate, SocietyRenewalDto profile) {
+        List<SocietyProfileVersion> versions = versionRepository.findBySocietyNameOrderByVersionAsc(societyName);
+        SocietyProfileVersion last = versions.isEmpty() ? null : versions.get(versions.size() - 1);
+        if (last != null && last.getSourceType() == sourceType && last.getSourceId().equals(sourceId)) return;
+
+        int version = last == null ? 1 : last.getVersion() + 1;
+        boolean keyframe = last == null || version - lastKeyframe(versions) >= keyframeInterval;
+        ObjectNode previous = keyframe ? objectMapper.createObjectNode() : replay(versions, versions.size() - 1);
+        ObjectNode document = objectMapper.valueToTree(profile);
+
+        SocietyProfileVersion row = new SocietyProfileVersion();
+        row.setSocietyName(societyName);
+        row.setVersion(version);
+        row.setYear(year != null ? year : approvedDate != null ? approvedDate.getYear() : LocalDateTime.now().getYear());
+        row.setSourceType(sourceType);
+        row.setSourceId(sourceId);
+        row.setApprovedDate(approvedDate);
+        row.setKeyframe(keyframe);
+        row.setDeltaJson(JsonDelta.diff(previous, document).toString());
+        versionRepository.save(row);
+    }
+
+    public Set<String> societiesWithHistory() {
+        return new HashSet<>(versionRepository.findAllSocietyNames());
+    }
+
+    public List<SocietyVersionDto> getVersions(String societyName) {
+        List<SocietyProfileVersion> versions = load(societyName);
+        List<SocietyVersionDto> result = new ArrayList<>(versions.size());
+        ObjectNode document = objectMapper.createObjectNode();
+        for (SocietyProfileVersion v : versions) {
+            ObjectNode delta = parse(v.getDeltaJson());
+            ObjectNode next = JsonDelta.apply(v.getKeyframe() ? objectMapper.createObjectNode() : document, delta);
+            // A keyframe stores the whole document, so what changed has to be worked out
+            List<String> changed = JsonDelta.changedFields(v.getKeyframe() ? JsonDelta.diff(document, next) : delta);
+            result.add(new SocietyVersionDto(v.getVersion(), v.getYear(), v.getSourceType().name(), v.getSourceId(),
+                    v.getApprovedDate(), v.getKeyframe(), changed, v.getDeltaJson().getBytes(StandardCharsets.UTF_8).length));
+            document = next;
+        }
+        return result;
+    }
+
+    /**
+     * The profile as it stood in {@code year}: the latest version approved for that year or,
+     * if the society was not renewed that year, the last one before it.
+     */
+    public Optional<SocietyRenewalDto> getProfile(String societyName, int year) {
+        List<SocietyProfileVersion> versions = load(societyName);
+        int index = indexForYear(versions, year);
+        if (index < 0) return Optional.empty();
+        return Optional.of(toDto(replay(versions, index)));
+    }
+
+    /**
+     * The profile an application should be compared against: the version before the one it
+     * produced if it has been approved, otherwise the latest version in or before {@code year}.
+     * Empty when the society has no history.
+     */
+    public Optional<VersionedProfile> getBaseline(String societyName, int year, SocietyProfile.Source sourceType, Long sourceId) {
+        List<SocietyProfileVersion> versions = versionRepository.findBySocietyNameOrderByVersionAsc(
+                societyNameIndex.canonicalName(societyName));
+        int own = -1;
+        for (int i = versions.size() - 1; i >= 0 && own < 0; i--) {
+            SocietyProfileVersion v = versions.get(i);
+            if (v.getSourceType() == sourceType && v.getSourceId().equals(sourceId)) own = i;
+        }
+        int index = own >= 0 ? own - 1 : indexForYear(versions, year);
+        if (index < 0) return Optional.empty();
+        return Optional.of(new VersionedProfile(versions.get(index).getYear(), toDto(replay(versions, index))));
+    }
+
+    /**
+     * What changed between two years' profiles. {@code toYear} defaults to the latest version
+     * and {@code fromYear} to the version before {@code toYear}'s year, so with no years this
+     * answers "what changed since last year". {@code section} is one of officials, bank,
+     * advisory or members, or null for everything.
+     */
+    public SocietyProfileDiffDto diff(String societyName, Integer fromYear, Integer toYear, String section) {
+        Predicate<String> inSection = sectionFilter(section);
+        List<SocietyProfileVersion> versions = load(societyName);
+
+        int to = toYear != null ? indexForYear(versions, toYear) : versions.size() - 1;
+        if (to < 0) throw new RuntimeException("No profile for " + societyName + " in or before " + toYear);
+        int from = fromYear != null ? indexForYear(versions, fromYear) : indexForYear(versions, versions.get(to).getYear() - 1);
+
+        ObjectNode before = from >= 0 ? replay(versions, from) : objectMapper.createObjectNode();
+        ObjectNode after = replay(versions, to);
+
+        Set<String> fields = new LinkedHashSet<>();
+        after.fieldNames().forEachRemaining(fields::add);
+        before.fieldNames().forEachRemaining(fields::add);
+
+        List<SocietyProfileDiffDto.FieldChange> changes = new ArrayList<>();
+        Map<String, List<JsonNode>> added = new LinkedHashMap<>();
+        Map<String, List<JsonNode>> removed = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (!inSection.test(field)) continue;
+            JsonNode a = before.path(field);
+            JsonNode b = after.path(field);
+            if (a.isArray() || b.isArray()) {
+                List<JsonNode> gone = new ArrayList<>();
+                List<JsonNode> came = new ArrayList<>();
+                JsonDelta.compareArrays(a, b, gone, came);
+                if (!came.isEmpty()) added.put(field, came);
+                if (!gone.isEmpty()) removed.put(field, gone);
+            } else if (!nullToMissing(a).equals(nullToMissing(b))) {
+                changes.add(new SocietyProfileDiffDto.FieldChange(field, a.isMissingNode() ? null : a, b.isMissingNode() ? null : b));
+            }
+        }
+        return new SocietyProfileDiffDto(societyName, from >= 0 ? versions.get(from).getYear() : null,
+                versions.get(to).getYear(), changes, added, removed);
+    }
+
+    private List<SocietyProfileVersion> load(String societyName) {
+        List<SocietyProfileVersion> versions = versionRepository.findBySocietyNameOrderByVersionAsc(
+                societyNameIndex.canonicalName(societyName));
+        if (versions.isEmpty()) throw new RuntimeException("No history for society: " + societyName);
+        return versions;
+    }
+
+    // Rebuilds version[index] from the nearest keyframe at or before it
+    private ObjectNode replay(List<SocietyProfileVersion> versions, int index) {
+        int start = index;
+        while (start > 0 && !versions.get(start).getKeyframe()) start--;
+        ObjectNode document = objectMapper.createObjectNode();
+        for (int i = start; i <= index; i++) {
+            document = JsonDelta.apply(document, parse(versions.get(i).getDeltaJson()));
+        }
+        return document;
+    }
+
+    private static int indexForYear(List<SocietyProfileVersion> versions, int year) {
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            if (versions.get(i).getYear() <= year) return i;
+        }
+        return -1;
+    }
+
+    private static int lastKeyframe(List<SocietyProfileVersion> versions) {
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            if (versions.get(i).getKeyframe()) return versions.get(i).getVersion();
+        }
+        return 0;
+    }
+
+    private static Predicate<String> sectionFilter(String section) {
+        if (section == null || section.isBlank() || section.equalsIgnoreCase("all")) return field -> true;
+        List<String> prefixes = SECTIONS.get(section.toLowerCase());
+        if (prefixes == null) throw new RuntimeException("Unknown section: " + section + " (expected one of " + SECTIONS.keySet() + ")");
+        return field -> prefixes.stream().anyMatch(field::startsWith);
+    }
+
+    private static JsonNode nullToMissing(JsonNode node) {
+        return node.isNull() ? MissingNode.getInstance() : node;
+    }
+
+    private ObjectNode parse(String json) {
+        try {
+            return (ObjectNode) objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Corrupt society history entry", e);
+        }
+    }
+
+    private SocietyRenewalDto toDto(ObjectNode document) {
+        try {
+            return objectMapper.treeToValue(document, SocietyRenewalDto.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not read society history entry", e);
+        }
+    }
+
+    public record VersionedProfile(int year, SocietyRenewalDto profile) {
+    }
+}
@@ -0,0 +1,189 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.SocietySuggestionDto;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefix trie of normalized society names for the autocomplete on the renewal and event
+ * forms, so typing never reaches the database. Whole names are matched first, then names
+ * with a later word starting with the input ("drama" finds "English Drama Society").
+ *
+ * <p>Writers are serialized; readers take no lock. Each node publishes its branches as one
+ * immutable object, so a reader sees a node either before or after an insert, never half-way.
+ */
+@Service
+public class SocietyNameIndex {
+
+    public static final int MAX_SUGGESTIONS = 25;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final SocietyRepository societyRepository;
+
+    private volatile Tries tries = new Tries();
+
+    public SocietyNameIndex(SocietyRepository societyRepository) {
+        this.societyRepository = societyRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Tries fresh = new Tries();
+        societyRepository.findAll().forEach(society -> add(fresh, society));
+        tries = fresh;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onSocietyChanged(SocietyChangedEvent event) {
+        add(tries, event.society());
+    }
+
+    /**
+     * Up to {@code limit} societies (capped at {@link #MAX_SUGGESTIONS}) whose name, or a word
+     * in it, starts with {@code prefix}. Case and repeated whitespace are ignored.
+     */
+    public List<SocietySuggestionDto> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalizeName(prefix);
+        int max = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        if (key.isEmpty()) return List.of();
+
+        Tries current = tries;
+        Map<String, Entry> found = new LinkedHashMap<>();
+        collect(current.names.find(key), max, found);
+        if (found.size() < max) collect(current.words.find(key), max, found);
+        return found.values().stream()
+                .map(e -> new SocietySuggestionDto(e.societyName(), e.faculty(), e.status(), e.year()))
+                .toList();
+    }
+
+    /**
+     * The stored spelling of a society name typed with different case or spacing, or the
+     * input unchanged when no society matches, so exact-name lookups tolerate both.
+     */
+    public String canonicalName(String societyName) {
+        Entry entry = tries.byName.get(TextNormalizer.normalizeName(societyName));
+        return entry != null ? entry.societyName() : societyName;
+    }
+
+    private static void add(Tries target, Society society) {
+        String key = TextNormalizer.normalizeName(society.getSocietyName());
+        if (key.isEmpty()) return;
+
+        // One row per name and year: the latest year describes the society
+        Entry previous = target.byName.get(key);
+        if (previous != null && previous.year() != null && society.getYear() != null
+                && society.getYear() < previous.year()) {
+            return;
+        }
+
+        Entry entry = new Entry(key, society.getSocietyName(), society.getFaculty(),
+                society.getStatus() != null ? society.getStatus().name() : null, society.getYear());
+        target.byName.put(key, entry);
+        target.names.insert(key, 0, entry);
+        for (int i = 1; i < key.length(); i++) {
+            if (key.charAt(i - 1) == ' ') target.words.insert(key, i, entry);
+        }
+    }
+
+    // Depth-first in character order, so suggestions come out alphabetically
+    private static void collect(Node node, int max, Map<String, Entry> found) {
+        if (node == null) return;
+        for (Entry entry : node.entries) {
+            if (found.size() >= max) return;
+            found.putIfAbsent(entry.key(), entry);
+        }
+        Branches branches = node.branches;
+        for (Node child : branches.children()) {
+            if (found.size() >= max) return;
+            collect(child, max, found);
+        }
+    }
+
+    private static final class Tries {
+        private final Node names = new Node();
+        private final Node words = new Node();
+        private final Map<String, Entry> byName = new ConcurrentHashMap<>();
+    }
+
+    private static final class Node {
+        private volatile Branches branches = Branches.EMPTY;
+        // Every name ending here; usually one, several when a word is shared
+        private volatile Entry[] entries = NO_ENTRIES;
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.branches.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        // Callers hold the index lock
+        void insert(String key, int from, Entry entry) {
+            Node node = this;
+            for (int i = from; i < key.length(); i++) {
+                char c = key.charAt(i);
+                Node child = node.branches.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.branches = node.branches.with(c, child);
+                }
+                node = child;
+            }
+            node.entries = replace(node.entries, entry);
+        }
+
+        private static Entry[] replace(Entry[] entries, Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key().equals(entry.key())) {
+                    Entry[] next = entries.clone();
+                    next[i] = entry;
+                    return next;
+                }
+            }
+            Entry[] next = Arrays.copyOf(entries, entries.length + 1);
+            next[entries.length] = entry;
+            Arrays.sort(next, (a, b) -> a.key().compareTo(b.key()));
+            return next;
+        }
+    }
+
+    // Labels sorted, children parallel to them; replaced as a whole on insert
+    private record Branches(char[] labels, Node[] children) {
+        static final Branches EMPTY = new Branches(new char[0], new Node[0]);
+
+        Node get(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Branches with(char c, Node child) {
+            int pos = -(Arrays.binarySearch(labels, c) + 1);
+            char[] l = new char[labels.length + 1];
+            Node[] n = new Node[children.length + 1];
+            System.arraycopy(labels, 0, l, 0, pos);
+            System.arraycopy(children, 0, n, 0, pos);
+            l[pos] = c;
+            n[pos] = child;
+            System.arraycopy(labels, pos, l, pos + 1, labels.length - pos);
+            System.arraycopy(children, pos, n, pos + 1, children.length - pos);
+            return new Branches(l, n);
+        }
+    }
+
+    private record Entry(String key, String societyName, String faculty, String status, Integer year) {
+    }
+}
@@ -0,0 +1,382 @@
+package lk.ac.pdn.sms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.ac.pdn.sms.dto.SocietyRenewalDto;
+import lk.ac.pdn.sms.entity.SocietyProfile;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.repository.SocietyProfileRepository;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.util.AfterCommit;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Renewal form pre-fill per society, kept in the {@code society_profiles} read model and
+ * cached in memory. Each VC approval of a registration or renewal rewrites the profile, so
+ * a pre-fill is one map lookup (one row on a cache miss) instead of two "latest approved"
+ * queries and their rosters.
+ *
+ * <p>Each saved profile is also appended to the society's {@link SocietyHistoryService}
+ * history. Profiles and histories missing at startup, for societies approved before these
+ * existed, are backfilled from the approved registrations and renewals.
+ */
+@Service
+public class SocietyProfileService {
+
+    private final SocietyProfileRepository profileRepository;
+    private final SocietyRepository societyRepository;
+    private final SocietyRenewalRepository renewalRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final SocietyHistoryService societyHistoryService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Keyed by normalized name. Approvals overwrite after commit; loads only fill gaps
+    private final Map<String, SocietyRenewalDto> cache = new ConcurrentHashMap<>();
+
+    public SocietyProfileService(SocietyProfileRepository profileRepository,
+                                 SocietyRepository societyRepository,
+                                 SocietyRenewalRepository renewalRepository,
+                                 SocietyRegistrationRepository registrationRepository,
+                                 SocietyHistoryService societyHistoryService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.profileRepository = profileRepository;
+        this.societyRepository = societyRepository;
+        this.renewalRepository = renewalRepository;
+        this.registrationRepository = registrationRepository;
+        this.societyHistoryService = societyHistoryService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The latest approved data for {@code societyName}, or an empty DTO when it has none.
+     * The result is shared with other callers and must not be modified.
+     */
+    public SocietyRenewalDto getPrefill(String societyName) {
+        String key = TextNormalizer.normalizeName(societyName);
+        SocietyRenewalDto cached = cache.get(key);
+        if (cached != null) return cached;
+
+        SocietyRenewalDto prefill = profileRepository.findBySocietyName(societyName)
+                .map(profile -> read(profile.getPrefillJson()))
+                .or(() -> latestApproved(societyName).map(Approved::prefill))
+                .orElse(null);
+        if (prefill == null) return new SocietyRenewalDto();
+        SocietyRenewalDto raced = cache.putIfAbsent(key, prefill);
+        return raced != null ? raced : prefill;
+    }
+
+    // Saved in the approving transaction; the cache is only updated once it commits
+
+    @EventListener
+    public void onRegistrationApproved(RegistrationTransitionEvent event) {
+        if (!event.isApproval()) return;
+        save(event.registration().getSocietyName(), approved(event.registration()));
+    }
+
+    @EventListener
+    public void onRenewalApproved(RenewalTransitionEvent event) {
+        if (!event.isApproval()) return;
+        save(event.renewal().getSocietyName(), approved(event.renewal()));
+    }
+
+    /**
+     * Creates the profiles and histories that do not exist yet, one society per transaction so
+     * the rosters loaded along the way do not pile up in one persistence context. A missing
+     * history is seeded from every approved application, oldest first.
+     */
+    public void backfillMissing() {
+        Set<String> withProfile = new HashSet<>();
+        Set<String> withHistory = new HashSet<>();
+        transactionTemplate.execute(status -> {
+            profileRepository.findAllSocietyNames().forEach(name -> withProfile.add(TextNormalizer.normalizeName(name)));
+            societyHistoryService.societiesWithHistory().forEach(name -> withHistory.add(TextNormalizer.normalizeName(name)));
+            return null;
+        });
+        List<Object[]> societies = transactionTemplate.execute(status -> societyRepository.findAllNamesAndYears());
+
+        Set<String> seen = new HashSet<>();
+        int profiles = 0;
+        int histories = 0;
+        for (Object[] row : societies) {
+            String name = (String) row[0];
+            if (name == null) continue;
+            String key = TextNormalizer.normalizeName(name);
+            if (!seen.add(key)) continue;
+            boolean needsProfile = !withProfile.contains(key);
+            boolean needsHistory = !withHistory.contains(key);
+            if (!needsProfile && !needsHistory) continue;
+
+            Boolean saved = transactionTemplate.execute(status -> {
+                List<Approved> approvals = allApproved(name);
+                if (approvals.isEmpty()) return false;
+                if (needsHistory) {
+                    for (Approved a : approvals) {
+                        societyHistoryService.record(name, a.year(), a.type(), a.id(), a.approvedDate(), a.prefill());
+                    }
+                }
+                // Records nothing new in the history: the latest approval is already its last version
+                if (needsProfile) save(name, approvals.get(approvals.size() - 1));
+                return true;
+            });
+            if (Boolean.TRUE.equals(saved)) {
+                if (needsProfile) profiles++;
+                if (needsHistory) histories++;
+            }
+        }
+        if (profiles > 0 || histories > 0) {
+            System.out.println("Backfilled " + profiles + " society profiles and " + histories + " society histories.");
+        }
+    }
+
+    private void save(String societyName, Approved source) {
+        SocietyProfile profile = profileRepository.findBySocietyName(societyName).orElseGet(SocietyProfile::new);
+        // A re-run approval of an older application must not replace newer data
+        if (profile.getApprovedDate() != null && source.approvedDate() != null
+                && profile.getApprovedDate().isAfter(source.approvedDate())) {
+            return;
+        }
+        profile.setSocietyName(societyName);
+        profile.setSourceType(source.type());
+        profile.setSourceId(source.id());
+        profile.setApprovedDate(source.approvedDate());
+        profile.setPrefillJson(write(source.prefill()));
+        profileRepository.save(profile);
+        societyHistoryService.record(societyName, source.year(), source.type(), source.id(), source.approvedDate(), source.prefill());
+
+        String key = TextNormalizer.normalizeName(societyName);
+        AfterCommit.run(() -> cache.put(key, source.prefill()));
+    }
+
+    // The pre-read-model lookup: whichever of the latest approved renewal and registration is newer
+    private Optional<Approved> latestApproved(String societyName) {
+        Optional<SocietyRenewal> renewal = renewalRepository.findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
+                societyName, SocietyRenewal.RenewalStatus.APPROVED);
+        Optional<SocietyRegistration> registration = registrationRepository.findTopBySocietyNameAndStatusOrderByApprovedDateDesc(
+                societyName, SocietyRegistration.ApprovalStage.APPROVED);
+
+        if (renewal.isPresent()) {
+            // A registration newer than the renewal is rare, but possible if the society re-registered
+            SocietyRenewal r = renewal.get();
+            if (registration.isEmpty() || !isAfter(registration.get().getApprovedDate(), r.getApprovedDate())) {
+                return Optional.of(approved(r));
+            }
+        }
+        return registration.map(SocietyProfileService::approved);
+    }
+
+    // Every approved registration and renewal of the society, oldest first, for seeding its history
+    private List<Approved> allApproved(String societyName) {
+        List<Approved> all = new ArrayList<>();
+        registrationRepository.findBySocietyNameAndStatusOrderByApprovedDateAsc(societyName, SocietyRegistration.ApprovalStage.APPROVED)
+                .forEach(reg -> all.add(approved(reg)));
+        renewalRepository.findBySocietyNameAndStatusOrderByApprovedDateAsc(societyName, SocietyRenewal.RenewalStatus.APPROVED)
+                .forEach(renewal -> all.add(approved(renewal)));
+        all.sort(Comparator.comparing(Approved::approvedDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())));
+        return all;
+    }
+
+    private static Approved approved(SocietyRegistration reg) {
+        return new Approved(SocietyProfile.Source.REGISTRATION, reg.getId(), reg.getYear(), reg.getApprovedDate(), fromRegistration(reg));
+    }
+
+    private static Approved approved(SocietyRenewal renewal) {
+        Integer year = renewal.getRenewalYear() != null ? renewal.getRenewalYear() : renewal.getYear();
+        return new Approved(SocietyProfile.Source.RENEWAL, renewal.getId(), year, renewal.getApprovedDate(), fromRenewal(renewal));
+    }
+
+    private static boolean isAfter(LocalDateTime a, LocalDateTime b) {
+        return a != null && (b == null || a.isAfter(b));
+    }
+
+    private String write(SocietyRenewalDto prefill) {
+        try {
+            return objectMapper.writeValueAsString(prefill);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize society profile", e);
+        }
+    }
+
+    private SocietyRenewalDto read(String json) {
+        try {
+            return objectMapper.readValue(json, SocietyRenewalDto.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not read society profile", e);
+        }
+    }
+
+    // Officials, bank, advisory board and rosters. AGM date, difficulties and activities are per year and left blank.
+    private static SocietyRenewalDto fromRegistration(SocietyRegistration reg) {
+        SocietyRenewalDto dto = new SocietyRenewalDto();
+        dto.setSocietyName(reg.getSocietyName());
+        dto.setApplicantFullName(reg.getApplicantFullName());
+        dto.setApplicantRegNo(reg.getApplicantRegNo());
+        dto.setApplicantEmail(reg.getApplicantEmail());
+        dto.setApplicantFaculty(reg.getApplicantFaculty());
+        dto.setApplicantMobile(reg.getApplicantMobile());
+        dto.setBankAccount(reg.getBankAccount());
+        dto.setBankName(reg.getBankName());
+
+        dto.setSeniorTreasurerTitle(reg.getSeniorTreasurerTitle());
+        dto.setSeniorTreasurerFullName(reg.getSeniorTreasurerFullName());
+        dto.setSeniorTreasurerDesignation(reg.getSeniorTreasurerDesignation());
+        dto.setSeniorTreasurerDepartment(reg.getSeniorTreasurerDepartment());
+        dto.setSeniorTreasurerEmail(reg.getSeniorTreasurerEmail());
+        dto.setSeniorTreasurerAddress(reg.getSeniorTreasurerAddress());
+        dto.setSeniorTreasurerMobile(reg.getSeniorTreasurerMobile());
+
+        dto.setPresidentRegNo(reg.getPresidentRegNo());
+        dto.setPresidentName(reg.getPresidentName());
+        dto.setPresidentAddress(reg.getPresidentAddress());
+        dto.setPresidentEmail(reg.getPresidentEmail());
+        dto.setPresidentMobile(reg.getPresidentMobile());
+
+        dto.setVicePresidentRegNo(reg.getVicePresidentRegNo());
+        dto.setVicePresidentName(reg.getVicePresidentName());
+        dto.setVicePresidentAddress(reg.getVicePresidentAddress());
+        dto.setVicePresidentEmail(reg.getVicePresidentEmail());
+        dto.setVicePresidentMobile(reg.getVicePresidentMobile());
+
+        dto.setJuniorTreasurerRegNo(reg.getJuniorTreasurerRegNo());
+        dto.setJuniorTreasurerName(reg.getJuniorTreasurerName());
+        dto.setJuniorTreasurerAddress(reg.getJuniorTreasurerAddress());
+        dto.setJuniorTreasurerEmail(reg.getJuniorTreasurerEmail());
+        dto.setJuniorTreasurerMobile(reg.getJuniorTreasurerMobile());
+
+        dto.setSecretaryRegNo(reg.getSecretaryRegNo());
+        dto.setSecretaryName(reg.getSecretaryName());
+        dto.setSecretaryAddress(reg.getSecretaryAddress());
+        dto.setSecretaryEmail(reg.getSecretaryEmail());
+        dto.setSecretaryMobile(reg.getSecretaryMobile());
+
+        dto.setJointSecretaryRegNo(reg.getJointSecretaryRegNo());
+        dto.setJointSecretaryName(reg.getJointSecretaryName());
+        dto.setJointSecretaryAddress(reg.getJointSecretaryAddress());
+        dto.setJointSecretaryEmail(reg.getJointSecretaryEmail());
+        dto.setJointSecretaryMobile(reg.getJointSecretaryMobile());
+
+        dto.setEditorRegNo(reg.getEditorRegNo());
+        dto.setEditorName(reg.getEditorName());
+        dto.setEditorAddress(reg.getEditorAddress());
+        dto.setEditorEmail(reg.getEditorEmail());
+        dto.setEditorMobile(reg.getEditorMobile());
+
+        dto.setAdvisoryBoard(map(reg.getAdvisoryBoard(), m -> advisor(m.getName(), m.getDesignation(), m.getDepartment())));
+        dto.setCommitteeMember(map(reg.getCommitteeMember(), m -> committeeMember(m.getRegNo(), m.getName())));
+        dto.setMember(map(reg.getMember(), m -> member(m.getRegNo(), m.getName())));
+        return dto;
+    }
+
+    private static SocietyRenewalDto fromRenewal(SocietyRenewal renewal) {
+        SocietyRenewalDto dto = new SocietyRenewalDto();
+        dto.setSocietyName(renewal.getSocietyName());
+        dto.setApplicantFullName(renewal.getApplicantFullName());
+        dto.setApplicantRegNo(renewal.getApplicantRegNo());
+        dto.setApplicantEmail(renewal.getApplicantEmail());
+        dto.setApplicantFaculty(renewal.getApplicantFaculty());
+        dto.setApplicantMobile(renewal.getApplicantMobile());
+        dto.setBankAccount(renewal.getBankAccount());
+        dto.setBankName(renewal.getBankName());
+        dto.setWebsite(renewal.getWebsite());
+
+        dto.setSeniorTreasurerTitle(renewal.getSeniorTreasurerTitle());
+        dto.setSeniorTreasurerFullName(renewal.getSeniorTreasurerFullName());
+        dto.setSeniorTreasurerDesignation(renewal.getSeniorTreasurerDesignation());
+        dto.setSeniorTreasurerDepartment(renewal.getSeniorTreasurerDepartment());
+        dto.setSeniorTreasurerEmail(renewal.getSeniorTreasurerEmail());
+        dto.setSeniorTreasurerAddress(renewal.getSeniorTreasurerAddress());
+        dto.setSeniorTreasurerMobile(renewal.getSeniorTreasurerMobile());
+
+        dto.setPresidentRegNo(renewal.getPresidentRegNo());
+        dto.setPresidentName(renewal.getPresidentName());
+        dto.setPresidentAddress(renewal.getPresidentAddress());
+        dto.setPresidentEmail(renewal.getPresidentEmail());
+        dto.setPresidentMobile(renewal.getPresidentMobile());
+
+        dto.setVicePresidentRegNo(renewal.getVicePresidentRegNo());
+        dto.setVicePresidentName(renewal.getVicePresidentName());
+        dto.setVicePresidentAddress(renewal.getVicePresidentAddress());
+        dto.setVicePresidentEmail(renewal.getVicePresidentEmail());
+        dto.setVicePresidentMobile(renewal.getVicePresidentMobile());
+
+        dto.setJuniorTreasurerRegNo(renewal.getJuniorTreasurerRegNo());
+        dto.setJuniorTreasurerName(renewal.getJuniorTreasurerName());
+        dto.setJuniorTreasurerAddress(renewal.getJuniorTreasurerAddress());
+        dto.setJuniorTreasurerEmail(renewal.getJuniorTreasurerEmail());
+        dto.setJuniorTreasurerMobile(renewal.getJuniorTreasurerMobile());
+
+        dto.setSecretaryRegNo(renewal.getSecretaryRegNo());
+        dto.setSecretaryName(renewal.getSecretaryName());
+        dto.setSecretaryAddress(renewal.getSecretaryAddress());
+        dto.setSecretaryEmail(renewal.getSecretaryEmail());
+        dto.setSecretaryMobile(renewal.getSecretaryMobile());
+
+        dto.setJointSecretaryRegNo(renewal.getJointSecretaryRegNo());
+        dto.setJointSecretaryName(renewal.getJointSecretaryName());
+        dto.setJointSecretaryAddress(renewal.getJointSecretaryAddress());
+        dto.setJointSecretaryEmail(renewal.getJointSecretaryEmail());
+        dto.setJointSecretaryMobile(renewal.getJointSecretaryMobile());
+
+        dto.setEditorRegNo(renewal.getEditorRegNo());
+        dto.setEditorName(renewal.getEditorName());
+        dto.setEditorAddress(renewal.getEditorAddress());
+        dto.setEditorEmail(renewal.getEditorEmail());
+        dto.setEditorMobile(renewal.getEditorMobile());
+
+        dto.setAdvisoryBoard(map(renewal.getAdvisoryBoard(), m -> advisor(m.getName(), m.getDesignation(), m.getDepartment())));
+        dto.setCommitteeMember(map(renewal.getCommitteeMember(), m -> committeeMember(m.getRegNo(), m.getName())));
+        dto.setMember(map(renewal.getMember(), m -> member(m.getRegNo(), m.getName())));
+        return dto;
+    }
+
+    private static <T, R> List<R> map(List<T> items, Function<T, R> mapper) {
+        return items == null ? List.of() : items.stream().map(mapper).toList();
+    }
+
+    private static SocietyRenewalDto.AdvisoryBoardMemberDto advisor(String name, String designation, String department) {
+        SocietyRenewalDto.AdvisoryBoardMemberDto dto = new SocietyRenewalDto.AdvisoryBoardMemberDto();
+        dto.setName(name);
+        dto.setDesignation(designation);
+        dto.setDepartment(department);
+        return dto;
+    }
+
+    private static SocietyRenewalDto.CommitteeMemberDto committeeMember(String regNo, String name) {
+        SocietyRenewalDto.CommitteeMemberDto dto = new SocietyRenewalDto.CommitteeMemberDto();
+        dto.setRegNo(regNo);
+        dto.setName(name);
+        return dto;
+    }
+
+    private static SocietyRenewalDto.MemberDto member(String regNo, String name) {
+        SocietyRenewalDto.MemberDto dto = new SocietyRenewalDto.MemberDto();
+        dto.setRegNo(regNo);
+        dto.setName(name);
+        return dto;
+    }
+
+    private record Approved(SocietyProfile.Source type, Long id, Integer year, LocalDateTime approvedDate, SocietyRenewalDto prefill) {
+    }
+}
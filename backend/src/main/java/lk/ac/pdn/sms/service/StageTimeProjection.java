@@ -0,0 +1,75 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * How long applications wait at each stage: for every transition out of a stage, the time
+ * since the transition into it. Applications that reach a final status are dropped from the
+ * state, so the snapshot grows with the open workload rather than with history.
+ */
+@Component
+public class StageTimeProjection implements TransitionProjection<StageTimeProjection.State> {
+
+    @Override
+    public String name() {
+        return "stage-time-v1";
+    }
+
+    @Override
+    public Class<State> stateType() {
+        return State.class;
+    }
+
+    @Override
+    public State initialState() {
+        return new State();
+    }
+
+    @Override
+    public void apply(State state, ApplicationTransition transition) {
+        String type = transition.getApplicationType().name();
+        String key = type + ":" + transition.getApplicationId();
+        long at = transition.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        Long entered = state.getEnteredAt().remove(key);
+        if (entered != null && transition.getFromStatus() != null) {
+            StageTime stage = state.getStages()
+                    .computeIfAbsent(type, t -> new TreeMap<>())
+                    .computeIfAbsent(transition.getFromStatus(), s -> new StageTime());
+            long waited = Math.max(0, at - entered);
+            stage.setCompleted(stage.getCompleted() + 1);
+            stage.setTotalMillis(stage.getTotalMillis() + waited);
+            stage.setMaxMillis(Math.max(stage.getMaxMillis(), waited));
+        }
+        if (!isFinal(transition.getToStatus())) state.getEnteredAt().put(key, at);
+    }
+
+    private static boolean isFinal(String status) {
+        return "APPROVED".equals(status) || "REJECTED".equals(status);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class State {
+        // Open applications only: "EVENT:7" -> epoch millis it entered its current stage
+        private Map<String, Long> enteredAt = new HashMap<>();
+        // Type -> stage -> time spent there by applications that have left it
+        private Map<String, Map<String, StageTime>> stages = new TreeMap<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class StageTime {
+        private long completed;
+        private long totalMillis;
+        private long maxMillis;
+    }
+}
@@ -0,0 +1,203 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.StatisticsTrendDto;
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.entity.StatisticsRollup;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.repository.StatisticsRollupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Maintains {@code statistics_rollup}, application counts by submission year and month,
+ * faculty, type and current status, and answers the statistics reads from it. The live
+ * counters only cover the application tables; society counts still come from the societies.
+ *
+ * <p>Every submission and stage change is applied from its transition event, inside the
+ * transaction that made it, by moving one application from its old status's cell to the new one.
+ * Each side of the move is a single upsert, so the first application in a cell needs no
+ * separate insert. {@link #rebuild} recomputes the whole table from the application tables:
+ * nightly, at startup when the totals disagree, and from the admin API.
+ */
+@Service
+public class StatisticsRollupService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final StatisticsRollupRepository rollupRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final SocietyRenewalRepository renewalRepository;
+    private final EventPermissionRepository eventPermissionRepository;
+    private final TransactionTemplate transaction;
+
+    public StatisticsRollupService(StatisticsRollupRepository rollupRepository,
+                                   SocietyRegistrationRepository registrationRepository,
+                                   SocietyRenewalRepository renewalRepository,
+                                   EventPermissionRepository eventPermissionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.registrationRepository = registrationRepository;
+        this.renewalRepository = renewalRepository;
+        this.eventPermissionRepository = eventPermissionRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    @Transactional
+    public void onRegistration(RegistrationTransitionEvent event) {
+        SocietyRegistration reg = event.registration();
+        move(cell(ApplicationTransition.ApplicationType.REGISTRATION, reg.getYear(), reg.getSubmittedDate(),
+                reg.getApplicantFaculty(), null), event.fromStatus(), reg.getStatus());
+    }
+
+    @EventListener
+    @Transactional
+    public void onRenewal(RenewalTransitionEvent event) {
+        SocietyRenewal renewal = event.renewal();
+        move(cell(ApplicationTransition.ApplicationType.RENEWAL, renewal.getYear(), renewal.getSubmittedDate(),
+                renewal.getApplicantFaculty(), null), event.fromStatus(), renewal.getStatus());
+    }
+
+    @EventListener
+    @Transactional
+    public void onEvent(EventPermissionTransitionEvent event) {
+        EventPermission evt = event.event();
+        move(cell(ApplicationTransition.ApplicationType.EVENT, null, evt.getSubmittedDate(),
+                evt.getApplicantFaculty(), null), event.fromStatus(), evt.getStatus());
+    }
+
+    /**
+     * Applications of {@code type}; a null year or status counts all of them.
+     */
+    @Transactional(readOnly = true)
+    public long count(ApplicationTransition.ApplicationType type, Integer year, String status) {
+        return rollupRepository.sumApplications(type, year, status);
+    }
+
+    /**
+     * Applications per submission month and type from {@code fromYear} to {@code toYear},
+     * broken down by current status, optionally split by faculty. Null filters match all.
+     */
+    @Transactional(readOnly = true)
+    public List<StatisticsTrendDto> getTrends(int fromYear, int toYear, String type, String faculty, boolean byFaculty) {
+        Map<String, StatisticsTrendDto> trends = new TreeMap<>();
+        for (StatisticsRollup row : rollupRepository.findByYearBetween(fromYear, toYear)) {
+            if (row.getApplicationCount() == 0) continue;
+            if (type != null && !type.equalsIgnoreCase(row.getApplicationType().name())) continue;
+            if (faculty != null && !faculty.equals(row.getFaculty())) continue;
+            String rowFaculty = byFaculty ? row.getFaculty() : null;
+            String key = String.format("%04d-%02d|%s|%s", row.getYear(), row.getMonth(),
+                    row.getApplicationType(), rowFaculty != null ? rowFaculty : "");
+            StatisticsTrendDto trend = trends.computeIfAbsent(key, k -> new StatisticsTrendDto(
+                    row.getYear(), row.getMonth(), row.getApplicationType().name(),
+                    rowFaculty, 0, new TreeMap<>()));
+            trend.setTotal(trend.getTotal() + row.getApplicationCount());
+            trend.getByStatus().merge(row.getStatus(), row.getApplicationCount(), Long::sum);
+        }
+        return new ArrayList<>(trends.values());
+    }
+
+    /**
+     * Throws the rollup away and recounts it from the application tables. Returns the number
+     * of cells written.
+     *
+     * <p>Every rollup row is locked before the application tables are read. A stage change
+     * that commits first is in both the count and the rows; one that commits later waits on
+     * the lock at its own upsert and is applied on top of the new rows. Nothing is lost, but
+     * submissions and approvals stall for the length of the recount.
+     */
+    @Transactional
+    @Scheduled(cron = "${app.statistics.rebuild-cron:0 30 3 * * *}")
+    public long rebuild() {
+        long started = System.currentTimeMillis();
+        rollupRepository.lockAll();
+        Map<Cell, Long> counts = new HashMap<>();
+        tally(registrationRepository::findAll, counts, reg -> cell(ApplicationTransition.ApplicationType.REGISTRATION,
+                reg.getYear(), reg.getSubmittedDate(), reg.getApplicantFaculty(), reg.getStatus().name()));
+        tally(renewalRepository::findAll, counts, renewal -> cell(ApplicationTransition.ApplicationType.RENEWAL,
+                renewal.getYear(), renewal.getSubmittedDate(), renewal.getApplicantFaculty(), renewal.getStatus().name()));
+        tally(eventPermissionRepository::findAll, counts, event -> cell(ApplicationTransition.ApplicationType.EVENT,
+                null, event.getSubmittedDate(), event.getApplicantFaculty(), event.getStatus().name()));
+
+        rollupRepository.deleteAllInBatch();
+        List<StatisticsRollup> rows = new ArrayList<>(counts.size());
+        counts.forEach((cell, n) -> rows.add(new StatisticsRollup(null, cell.year(), cell.month(), cell.faculty(),
+                cell.type(), cell.status(), n)));
+        rollupRepository.saveAll(rows);
+        System.out.println("Rebuilt statistics rollup: " + rows.size() + " cells in "
+                + (System.currentTimeMillis() - started) + " ms");
+        return rows.size();
+    }
+
+    // Startup check: the rollup must hold exactly one count per application. Not one transaction,
+    // so the recount's reads start after its lock rather than at these counts
+    public void rebuildIfStale() {
+        long expected = registrationRepository.count() + renewalRepository.count() + eventPermissionRepository.count();
+        if (rollupRepository.sumAllApplications() != expected) transaction.execute(status -> rebuild());
+    }
+
+    private void move(Cell cell, Enum<?> fromStatus, Enum<?> toStatus) {
+        if (toStatus == null || toStatus == fromStatus) return;
+        String from = fromStatus != null ? fromStatus.name() : null;
+        String to = toStatus.name();
+        // Touch the two rows in a fixed order so concurrent moves between them cannot deadlock
+        if (from != null && from.compareTo(to) < 0) {
+            add(cell.withStatus(from), -1);
+            add(cell.withStatus(to), 1);
+        } else {
+            add(cell.withStatus(to), 1);
+            if (from != null) add(cell.withStatus(from), -1);
+        }
+    }
+
+    private void add(Cell cell, long delta) {
+        rollupRepository.add(cell.year(), cell.month(), cell.faculty(), cell.type().name(), cell.status(), delta);
+    }
+
+    private <T> void tally(Function<Pageable, Page<T>> source, Map<Cell, Long> counts, Function<T, Cell> cell) {
+        Page<T> page;
+        int number = 0;
+        do {
+            page = source.apply(PageRequest.of(number++, REBUILD_PAGE_SIZE, Sort.by("id")));
+            for (T item : page.getContent()) counts.merge(cell.apply(item), 1L, Long::sum);
+        } while (page.hasNext());
+    }
+
+    private static Cell cell(ApplicationTransition.ApplicationType type, Integer year, LocalDateTime submitted,
+                             String faculty, String status) {
+        int cellYear = year != null ? year : submitted != null ? submitted.getYear() : LocalDate.now().getYear();
+        int month = submitted != null ? submitted.getMonthValue() : 0;
+        return new Cell(cellYear, month, faculty != null ? faculty : "", type, status);
+    }
+
+    private record Cell(int year, int month, String faculty, ApplicationTransition.ApplicationType type, String status) {
+        Cell withStatus(String status) {
+            return new Cell(year, month, faculty, type, status);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package lk.ac.pdn.sms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.event.SocietyChangedEvent;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import lk.ac.pdn.sms.util.BloomFilter;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bloom filters in front of the duplicate checks run on every submission: society
+ * (name, year) for registrations and renewal (name, year) for renewals. A definite "absent"
+ * skips the database; a "maybe" runs the query as before.
+ *
+ * <p>Keys are folded harder than the database compares names (case, whitespace, accents),
+ * which can only add false positives. Built at startup, added to on every insert made
+ * through this instance and rebuilt nightly to resize.
+ *
+ * <p>Single instance only. A row written anywhere else (another application instance, seed
+ * SQL, a manual fix) stays an "absent" until the next rebuild, and a duplicate of it would
+ * pass the check. Rebuild from the admin API after changing those tables by hand, and set
+ * {@code app.existence-filter.enabled=false} when more than one instance shares the database.
+ * Lookups whose miss rejects a submission, such as "Society not found", never go through
+ * the filter.
+ */
+@Service
+public class SubmissionExistenceFilter {
+
+    public enum Kind {
+        SOCIETY("society"), RENEWAL("renewal");
+
+        private final String tag;
+
+        Kind(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // Inserts younger than this are replayed into a rebuilt filter, covering rows whose
+    // transaction had not committed yet when the rebuild read the tables
+    private static final long REPLAY_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final SocietyRepository societyRepository;
+    private final SocietyRenewalRepository renewalRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ConcurrentLinkedDeque<RecentKey> recent = new ConcurrentLinkedDeque<>();
+
+    // Null until the first rebuild; every check falls through to the database until then
+    private volatile Map<Kind, BloomFilter> filters;
+
+    public SubmissionExistenceFilter(SocietyRepository societyRepository,
+                                     SocietyRenewalRepository renewalRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.existence-filter.enabled:true}") boolean enabled,
+                                     @Value("${app.existence-filter.expected-insertions:20000}") long expectedInsertions,
+                                     @Value("${app.existence-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.societyRepository = societyRepository;
+        this.renewalRepository = renewalRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        for (Kind kind : Kind.values()) {
+            Gauge.builder("sms.existence.filter.fpp", this, f -> f.expectedFalsePositiveRate(kind))
+                    .description("False-positive rate implied by the current fill of the existence filter")
+                    .tag("filter", kind.tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(cron = "${app.existence-filter.rebuild-cron:0 15 3 * * *}")
+    public void rebuild() {
+        List<Object[]> societies = societyRepository.findAllNamesAndYears();
+        List<Object[]> renewals = renewalRepository.findAllNamesAndYears();
+
+        Map<Kind, BloomFilter> fresh = new EnumMap<>(Kind.class);
+        fresh.put(Kind.SOCIETY, create(societies.size()));
+        fresh.put(Kind.RENEWAL, create(renewals.size()));
+        for (Object[] row : societies) {
+            fresh.get(Kind.SOCIETY).put(key((String) row[0], (Integer) row[1]));
+        }
+        for (Object[] row : renewals) {
+            fresh.get(Kind.RENEWAL).put(key((String) row[0], (Integer) row[1]));
+        }
+
+        // Replayed before the swap so readers never see a filter missing them, and again
+        // after it for inserts that went into the old filter in between
+        replayRecent(fresh);
+        filters = Collections.unmodifiableMap(fresh);
+        replayRecent(fresh);
+    }
+
+    // Added before commit, unlike the other indexes: an early key only costs a query if the
+    // insert rolls back, while a late one would let a duplicate through in the meantime
+
+    @EventListener
+    public void onSocietyChanged(SocietyChangedEvent event) {
+        Society society = event.society();
+        add(Kind.SOCIETY, society.getSocietyName(), society.getYear());
+    }
+
+    @EventListener
+    public void onRenewalSubmitted(RenewalTransitionEvent event) {
+        if (!event.isSubmission()) return;
+        SocietyRenewal renewal = event.renewal();
+        add(Kind.RENEWAL, renewal.getSocietyName(), renewal.getYear());
+    }
+
+    /**
+     * Answers an existence check, running {@code database} only when the filter cannot rule
+     * the key out.
+     */
+    public boolean exists(Kind kind, String name, Integer year, BooleanSupplier database) {
+        Map<Kind, BloomFilter> current = filters;
+        if (!enabled || current == null) {
+            count(kind, "unfiltered");
+            return database.getAsBoolean();
+        }
+        if (!current.get(kind).mightContain(key(name, year))) {
+            count(kind, "absent");
+            return false;
+        }
+        boolean result = database.getAsBoolean();
+        count(kind, result ? "present" : "false_positive");
+        return result;
+    }
+
+    private void add(Kind kind, String name, Integer year) {
+        if (name == null) return;
+        String key = key(name, year);
+        long now = System.nanoTime();
+        // Recorded before the put: a rebuild that misses the put still replays the key
+        recent.addLast(new RecentKey(kind, key, now));
+        Map<Kind, BloomFilter> current = filters;
+        if (current != null) current.get(kind).put(key);
+
+        RecentKey oldest;
+        while ((oldest = recent.peekFirst()) != null && now - oldest.addedAt() > REPLAY_WINDOW_NANOS) {
+            recent.remove(oldest);
+        }
+    }
+
+    private void replayRecent(Map<Kind, BloomFilter> target) {
+        for (RecentKey entry : recent) {
+            target.get(entry.kind()).put(entry.key());
+        }
+    }
+
+    private BloomFilter create(int rows) {
+        // Headroom for a year of inserts before the nightly rebuild resizes it
+        return BloomFilter.create(Math.max(expectedInsertions, 2L * rows), falsePositiveRate);
+    }
+
+    private double expectedFalsePositiveRate(Kind kind) {
+        Map<Kind, BloomFilter> current = filters;
+        return current != null ? current.get(kind).expectedFalsePositiveRate() : Double.NaN;
+    }
+
+    private void count(Kind kind, String result) {
+        Counter.builder("sms.existence.checks")
+                .description("Submission existence checks by filter outcome")
+                .tag("filter", kind.tag)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String key(String name, Integer year) {
+        String normalized = TextNormalizer.normalizeName(name);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) > 0x7F) {
+                // Accent-insensitive collations treat "café" and "cafe" as equal, so the key must too
+                normalized = Normalizer.normalize(normalized, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+                break;
+            }
+        }
+        return normalized + '|' + year;
+    }
+
+    private record RecentKey(Kind kind, String key, long addedAt) {
+    }
+}
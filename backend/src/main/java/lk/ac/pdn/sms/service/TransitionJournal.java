@@ -0,0 +1,296 @@
+package lk.ac.pdn.sms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.entity.SocietyRenewal;
+import lk.ac.pdn.sms.entity.TransitionSnapshot;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.event.RegistrationTransitionEvent;
+import lk.ac.pdn.sms.event.RenewalTransitionEvent;
+import lk.ac.pdn.sms.repository.ApplicationTransitionRepository;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRenewalRepository;
+import lk.ac.pdn.sms.repository.TransitionSnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Append-only journal of application workflow transitions, and replay of projections over it.
+ * Every submission, stage approval and rejection of a registration, renewal or event request
+ * appends one row in the same transaction as the status change, with who made it and when.
+ * Each appended row is then published as an event of its own for consumers of the journal.
+ *
+ * <p>{@link #replay} starts from the projection's snapshot and applies only the entries after
+ * it, a page at a time. When that tail reaches {@code app.transitions.snapshot-interval}
+ * entries a new snapshot is written, cut at the last entry older than
+ * {@code app.transitions.snapshot-settle-seconds}: identity ids are handed out before commit,
+ * so a very recent id can still be followed by a smaller one that commits later.
+ */
+@Service
+public class TransitionJournal {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final String BACKFILL_ACTOR = "backfill";
+
+    private final ApplicationTransitionRepository transitionRepository;
+    private final TransitionSnapshotRepository snapshotRepository;
+    private final SocietyRegistrationRepository registrationRepository;
+    private final SocietyRenewalRepository renewalRepository;
+    private final EventPermissionRepository eventPermissionRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int snapshotInterval;
+    private final long settleSeconds;
+
+    public TransitionJournal(ApplicationTransitionRepository transitionRepository,
+                             TransitionSnapshotRepository snapshotRepository,
+                             SocietyRegistrationRepository registrationRepository,
+                             SocietyRenewalRepository renewalRepository,
+                             EventPermissionRepository eventPermissionRepository,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${app.transitions.snapshot-interval:500}") int snapshotInterval,
+                             @Value("${app.transitions.snapshot-settle-seconds:60}") long settleSeconds) {
+        this.transitionRepository = transitionRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.registrationRepository = registrationRepository;
+        this.renewalRepository = renewalRepository;
+        this.eventPermissionRepository = eventPermissionRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.settleSeconds = settleSeconds;
+    }
+
+    // Appended inside the transaction that changed the status; a call that did not change it records nothing
+
+    @EventListener
+    public void onRegistration(RegistrationTransitionEvent event) {
+        SocietyRegistration reg = event.registration();
+        append(ApplicationTransition.ApplicationType.REGISTRATION, reg.getId(), event.fromStatus(), reg.getStatus(),
+                event.actor(), reg.getApplicantFaculty());
+    }
+
+    @EventListener
+    public void onRenewal(RenewalTransitionEvent event) {
+        SocietyRenewal renewal = event.renewal();
+        append(ApplicationTransition.ApplicationType.RENEWAL, renewal.getId(), event.fromStatus(), renewal.getStatus(),
+                event.actor(), renewal.getApplicantFaculty());
+    }
+
+    @EventListener
+    public void onEvent(EventPermissionTransitionEvent event) {
+        EventPermission evt = event.event();
+        append(ApplicationTransition.ApplicationType.EVENT, evt.getId(), event.fromStatus(), evt.getStatus(),
+                event.actor(), evt.getApplicantFaculty());
+    }
+
+    public List<ApplicationTransition> getTimeline(ApplicationTransition.ApplicationType type, Long applicationId) {
+        return transitionRepository.findByApplicationTypeAndApplicationIdOrderByIdAsc(type, applicationId);
+    }
+
+    /**
+     * Folds the whole journal into {@code projection}'s state, starting from its snapshot.
+     */
+    public <S> Replay<S> replay(TransitionProjection<S> projection) {
+        long started = System.nanoTime();
+        Optional<TransitionSnapshot> snapshot = snapshotRepository.findByProjection(projection.name());
+        S state = snapshot.map(s -> read(s.getStateJson(), projection.stateType())).orElseGet(projection::initialState);
+        long snapshotId = snapshot.map(TransitionSnapshot::getLastTransitionId).orElse(0L);
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+        long last = snapshotId;
+        int tail = 0;
+        boolean settled = true;
+        String nextSnapshot = null;
+        long nextSnapshotId = 0;
+        List<ApplicationTransition> page;
+        do {
+            page = transitionRepository.findByIdGreaterThanOrderByIdAsc(last, PageRequest.of(0, PAGE_SIZE));
+            for (ApplicationTransition transition : page) {
+                if (settled && !transition.getRecordedAt().isBefore(settledBefore)) {
+                    // Everything from here on is too recent to snapshot
+                    settled = false;
+                    if (tail >= snapshotInterval) {
+                        nextSnapshot = write(state);
+                        nextSnapshotId = last;
+                    }
+                }
+                projection.apply(state, transition);
+                last = transition.getId();
+                tail++;
+            }
+        } while (page.size() == PAGE_SIZE);
+        if (settled && tail >= snapshotInterval) {
+            nextSnapshot = write(state);
+            nextSnapshotId = last;
+        }
+        if (nextSnapshot != null) saveSnapshot(projection.name(), nextSnapshotId, nextSnapshot);
+
+        return new Replay<>(state, snapshotId, tail, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Gives applications that predate the journal a history reconstructed from their approval
+     * flags and dates. Runs only while the journal is empty.
+     */
+    @Transactional
+    public void seedIfEmpty() {
+        if (transitionRepository.count() > 0) return;
+        long rows = seed(registrationRepository::findAll, reg -> history(
+                ApplicationTransition.ApplicationType.REGISTRATION, reg.getId(), reg.getApplicantFaculty(),
+                reg.getApplicantEmail(), reg.getSubmittedDate(), reg.getStatus().name(), null,
+                new Stage("PENDING_DEAN", reg.getDeanApprovalDate(), reg.getIsDeanApproved()),
+                new Stage("PENDING_AR", reg.getArApprovalDate(), reg.getIsArApproved()),
+                new Stage("PENDING_VC", reg.getVcApprovalDate(), reg.getIsVcApproved())));
+        rows += seed(renewalRepository::findAll, ren -> history(
+                ApplicationTransition.ApplicationType.RENEWAL, ren.getId(), ren.getApplicantFaculty(),
+                ren.getApplicantEmail(), ren.getSubmittedDate(), ren.getStatus().name(), ren.getUpdatedAt(),
+                new Stage("PENDING_DEAN", ren.getDeanApprovalDate(), ren.getIsDeanApproved()),
+                new Stage("PENDING_AR", ren.getArApprovalDate(), ren.getIsArApproved()),
+                new Stage("PENDING_VC", ren.getVcApprovalDate(), ren.getIsVcApproved())));
+        rows += seed(eventPermissionRepository::findAll, evt -> history(
+                ApplicationTransition.ApplicationType.EVENT, evt.getId(), evt.getApplicantFaculty(),
+                evt.getApplicantEmail(), evt.getSubmittedDate(), evt.getStatus().name(), null,
+                new Stage("PENDING_DEAN", evt.getDeanApprovalDate(), evt.getIsDeanApproved()),
+                new Stage("PENDING_PREMISES", evt.getPremisesApprovalDate(), evt.getIsPremisesApproved()),
+                new Stage("PENDING_AR", evt.getArApprovalDate(), evt.getIsArApproved()),
+                new Stage("PENDING_VC", evt.getVcApprovalDate(), evt.getIsVcApproved())));
+        if (rows > 0) System.out.println("Backfilled " + rows + " workflow transitions from the application tables.");
+    }
+
+    private void append(ApplicationTransition.ApplicationType type, Long applicationId, Enum<?> fromStatus,
+                        Enum<?> toStatus, String actor, String faculty) {
+        if (toStatus == null || toStatus == fromStatus) return;
+        ApplicationTransition transition = new ApplicationTransition();
+        transition.setApplicationType(type);
+        transition.setApplicationId(applicationId);
+        transition.setAction(action(fromStatus != null ? fromStatus.name() : null, toStatus.name()));
+        transition.setFromStatus(fromStatus != null ? fromStatus.name() : null);
+        transition.setToStatus(toStatus.name());
+        transition.setActor(actor);
+        transition.setFaculty(faculty);
+        // Backfilled history is not published; consumers replay it instead
+        eventPublisher.publishEvent(transitionRepository.save(transition));
+    }
+
+    private <T> long seed(Function<Pageable, Page<T>> source, Function<T, List<ApplicationTransition>> history) {
+        long rows = 0;
+        Page<T> page;
+        int number = 0;
+        do {
+            page = source.apply(PageRequest.of(number++, PAGE_SIZE, Sort.by("id")));
+            List<ApplicationTransition> batch = new ArrayList<>();
+            for (T item : page.getContent()) batch.addAll(history.apply(item));
+            transitionRepository.saveAll(batch);
+            rows += batch.size();
+        } while (page.hasNext());
+        return rows;
+    }
+
+    // Walks the stages in order: each one the application got past becomes an approval at its
+    // recorded date (or the previous date when none was kept), then a rejection if it ended there
+    private static List<ApplicationTransition> history(ApplicationTransition.ApplicationType type, Long id, String faculty,
+                                                       String applicant, LocalDateTime submitted, String status,
+                                                       LocalDateTime rejectedAt, Stage... stages) {
+        List<ApplicationTransition> entries = new ArrayList<>();
+        LocalDateTime at = submitted != null ? submitted : LocalDateTime.now();
+        entries.add(backfilled(type, id, null, stages[0].status(), applicant, faculty, at));
+
+        int passed;
+        if ("APPROVED".equals(status)) {
+            passed = stages.length;
+        } else if ("REJECTED".equals(status)) {
+            passed = 0;
+            while (passed < stages.length && (Boolean.TRUE.equals(stages[passed].approved()) || stages[passed].approvedAt() != null)) passed++;
+        } else {
+            passed = 0;
+            while (passed < stages.length && !stages[passed].status().equals(status)) passed++;
+            if (passed == stages.length) return entries;
+        }
+
+        for (int i = 0; i < passed; i++) {
+            if (stages[i].approvedAt() != null && stages[i].approvedAt().isAfter(at)) at = stages[i].approvedAt();
+            String next = i + 1 < stages.length ? stages[i + 1].status() : "APPROVED";
+            entries.add(backfilled(type, id, stages[i].status(), next, BACKFILL_ACTOR, faculty, at));
+        }
+        if ("REJECTED".equals(status)) {
+            String from = passed < stages.length ? stages[passed].status() : "APPROVED";
+            if (rejectedAt != null && rejectedAt.isAfter(at)) at = rejectedAt;
+            entries.add(backfilled(type, id, from, "REJECTED", BACKFILL_ACTOR, faculty, at));
+        }
+        return entries;
+    }
+
+    private static ApplicationTransition backfilled(ApplicationTransition.ApplicationType type, Long id, String from,
+                                                    String to, String actor, String faculty, LocalDateTime at) {
+        ApplicationTransition transition = new ApplicationTransition();
+        transition.setApplicationType(type);
+        transition.setApplicationId(id);
+        transition.setAction(action(from, to));
+        transition.setFromStatus(from);
+        transition.setToStatus(to);
+        transition.setActor(actor);
+        transition.setFaculty(faculty);
+        transition.setOccurredAt(at);
+        return transition;
+    }
+
+    private static ApplicationTransition.Action action(String from, String to) {
+        if (from == null) return ApplicationTransition.Action.SUBMITTED;
+        return "REJECTED".equals(to) ? ApplicationTransition.Action.REJECTED : ApplicationTransition.Action.APPROVED;
+    }
+
+    private void saveSnapshot(String projection, long lastTransitionId, String stateJson) {
+        TransitionSnapshot snapshot = snapshotRepository.findByProjection(projection).orElseGet(TransitionSnapshot::new);
+        if (snapshot.getLastTransitionId() != null && snapshot.getLastTransitionId() >= lastTransitionId) return;
+        snapshot.setProjection(projection);
+        snapshot.setLastTransitionId(lastTransitionId);
+        snapshot.setStateJson(stateJson);
+        try {
+            snapshotRepository.save(snapshot);
+        } catch (DataIntegrityViolationException e) {
+            // Another replay wrote the first snapshot at the same moment; either one will do
+        }
+    }
+
+    private <S> S read(String json, Class<S> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Corrupt transition snapshot", e);
+        }
+    }
+
+    private String write(Object state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not write transition snapshot", e);
+        }
+    }
+
+    private record Stage(String status, LocalDateTime approvedAt, Boolean approved) {
+    }
+
+    public record Replay<S>(S state, long snapshotTransitionId, int tailTransitions, long tookMillis) {
+    }
+}
@@ -0,0 +1,23 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.ApplicationTransition;
+
+/**
+ * A fold over the transition journal. {@link TransitionJournal#replay} feeds it every entry in
+ * journal order, starting from its last snapshot, so the state must be a plain bean Jackson
+ * can write and read back.
+ */
+public interface TransitionProjection<S> {
+
+    /**
+     * Snapshot key. Change it whenever the state's shape or meaning changes, so an old
+     * snapshot is ignored instead of misread.
+     */
+    String name();
+
+    Class<S> stateType();
+
+    S initialState();
+
+    void apply(S state, ApplicationTransition transition);
+}
@@ -0,0 +1,113 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read model behind the home page and dashboard "upcoming events" lists. Holds approved,
+ * not-yet-past events sorted by date so neither caller queries event_permissions.
+ *
+ * <p>Entries are immutable copies of the listed fields taken when the change commits, never
+ * the entities themselves, so a later edit to an entity in some open session cannot leak in.
+ */
+@Service
+public class UpcomingEventsService {
+
+    private static final Comparator<UpcomingEvent> BY_DATE = Comparator
+            .comparing(UpcomingEvent::eventDate)
+            .thenComparing(UpcomingEvent::timeFrom, Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()))
+            .thenComparing(UpcomingEvent::id);
+
+    private final EventPermissionRepository eventRepository;
+
+    // Replaced wholesale on every change; readers just take the current reference
+    private volatile List<UpcomingEvent> upcoming = List.of();
+    // Seeded from the clock so ETags issued before a restart never match the new state
+    private volatile long version = System.currentTimeMillis();
+
+    public UpcomingEventsService(EventPermissionRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<UpcomingEvent> events = new ArrayList<>(eventRepository.findUpcomingApprovedEvents().stream()
+                .map(UpcomingEvent::of)
+                .toList());
+        events.sort(BY_DATE);
+        publish(events);
+    }
+
+    /**
+     * Applies one committed change: added when it reaches APPROVED, dropped if it leaves that state.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onEventChanged(EventPermissionTransitionEvent transition) {
+        EventPermission event = transition.event();
+        if (event.getId() == null) return;
+
+        boolean listed = upcoming.stream().anyMatch(e -> e.id().equals(event.getId()));
+        boolean belongs = event.getStatus() == EventPermission.EventStatus.APPROVED
+                && event.getEventDate() != null
+                && !event.getEventDate().isBefore(LocalDate.now());
+        if (!listed && !belongs) return;
+
+        List<UpcomingEvent> next = new ArrayList<>(upcoming.size() + 1);
+        for (UpcomingEvent e : upcoming) {
+            if (!e.id().equals(event.getId())) next.add(e);
+        }
+        if (belongs) {
+            UpcomingEvent entry = UpcomingEvent.of(event);
+            int pos = 0;
+            while (pos < next.size() && BY_DATE.compare(next.get(pos), entry) < 0) pos++;
+            next.add(pos, entry);
+        }
+        publish(next);
+    }
+
+    // Yesterday's events drop off the feed at midnight
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void rollOver() {
+        LocalDate today = LocalDate.now();
+        List<UpcomingEvent> next = upcoming.stream()
+                .filter(e -> !e.eventDate().isBefore(today))
+                .toList();
+        if (next.size() != upcoming.size()) publish(next);
+    }
+
+    public List<UpcomingEvent> getUpcoming(int limit) {
+        List<UpcomingEvent> current = upcoming;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    // Differs per limit because each limit is a different representation
+    public String getETag(int limit) {
+        return "\"upcoming-" + version + "-" + limit + "\"";
+    }
+
+    private void publish(List<UpcomingEvent> events) {
+        upcoming = List.copyOf(events);
+        version++;
+    }
+
+    // The fields the home page and dashboard show; applicant details stay off the public list
+    public record UpcomingEvent(Long id, String eventName, String societyName, String place,
+                                LocalDate eventDate, LocalTime timeFrom, LocalTime timeTo) {
+        static UpcomingEvent of(EventPermission event) {
+            return new UpcomingEvent(event.getId(), event.getEventName(), event.getSocietyName(), event.getPlace(),
+                    event.getEventDate(), event.getTimeFrom(), event.getTimeTo());
+        }
+    }
+}
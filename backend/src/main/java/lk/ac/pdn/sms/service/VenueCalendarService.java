@@ -0,0 +1,305 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.VenueBookingDto;
+import lk.ac.pdn.sms.dto.VenueSlotDto;
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.event.EventPermissionTransitionEvent;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.repository.VenueDayLockRepository;
+import lk.ac.pdn.sms.util.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory venue calendar behind the public booking and free-slot reads. Each (venue, day)
+ * pair holds an immutable interval index that is swapped atomically once a workflow
+ * transition commits, so readers never lock.
+ *
+ * <p>The double-booking check itself runs against the database under a per-(venue, day) row
+ * lock, since the calendar only learns about a booking after its transaction commits.
+ */
+@Service
+public class VenueCalendarService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // Every status that still holds a claim on the venue
+    private static final Set<EventPermission.EventStatus> TRACKED = EnumSet.of(
+            EventPermission.EventStatus.PENDING_DEAN,
+            EventPermission.EventStatus.PENDING_PREMISES,
+            EventPermission.EventStatus.PENDING_AR,
+            EventPermission.EventStatus.PENDING_VC,
+            EventPermission.EventStatus.APPROVED);
+
+    // The Premises Officer has already cleared the venue for these, so nothing may overlap them
+    private static final Set<EventPermission.EventStatus> CONFIRMED = EnumSet.of(
+            EventPermission.EventStatus.PENDING_AR,
+            EventPermission.EventStatus.PENDING_VC,
+            EventPermission.EventStatus.APPROVED);
+
+    private final EventPermissionRepository eventRepository;
+    private final VenueDayLockRepository venueDayLockRepository;
+    private final ResourceVersions resourceVersions;
+    private final int dayStartMinute;
+    private final int dayEndMinute;
+
+    private final Map<VenueDay, DaySchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<Long, VenueDay> bookedDays = new ConcurrentHashMap<>();
+
+    public VenueCalendarService(EventPermissionRepository eventRepository,
+                                VenueDayLockRepository venueDayLockRepository,
+                                ResourceVersions resourceVersions,
+                                @Value("${app.venues.day-start:06:00}") String dayStart,
+                                @Value("${app.venues.day-end:22:00}") String dayEnd) {
+        this.eventRepository = eventRepository;
+        this.venueDayLockRepository = venueDayLockRepository;
+        this.resourceVersions = resourceVersions;
+        this.dayStartMinute = toMinute(LocalTime.parse(dayStart));
+        this.dayEndMinute = toMinute(LocalTime.parse(dayEnd));
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<EventPermission> events = eventRepository.findByStatusInAndEventDateGreaterThanEqual(TRACKED, LocalDate.now());
+
+        Map<VenueDay, List<Booking>> grouped = events.stream()
+                .map(this::toBooking)
+                .filter(b -> b != null)
+                .collect(Collectors.groupingBy(Booking::day));
+
+        schedules.clear();
+        bookedDays.clear();
+        grouped.forEach((day, bookings) -> {
+            schedules.put(day, DaySchedule.of(bookings));
+            bookings.forEach(b -> bookedDays.put(b.eventId(), day));
+        });
+        resourceVersions.bump(ResourceVersions.VENUES);
+    }
+
+    /**
+     * Re-indexes a single event once its change has committed. Handles submission, every
+     * approval stage, rejection and any change of place/date by dropping the old booking first.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onEventChanged(EventPermissionTransitionEvent transition) {
+        EventPermission event = transition.event();
+        if (event.getId() == null) return;
+
+        VenueDay previous = bookedDays.remove(event.getId());
+        if (previous != null) {
+            schedules.computeIfPresent(previous, (day, schedule) -> schedule.without(event.getId()));
+        }
+
+        Booking booking = toBooking(event);
+        if (booking != null) {
+            schedules.merge(booking.day(), DaySchedule.of(List.of(booking)), (existing, added) -> existing.with(booking));
+            bookedDays.put(booking.eventId(), booking.day());
+        }
+        if (previous != null || booking != null) resourceVersions.bump(ResourceVersions.VENUES);
+    }
+
+    /**
+     * Rejects the event if its slot overlaps a booking the Premises Officer has already cleared.
+     * Runs in the transaction that saves the event: the venue's day stays claimed until it
+     * commits or rolls back, so a concurrent check for the same day waits and then sees this
+     * booking.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void assertVenueAvailable(EventPermission event) {
+        if (event.getPlace() == null || event.getPlace().isBlank() || event.getEventDate() == null) return;
+
+        String venue = TextNormalizer.normalizeName(event.getPlace());
+        venueDayLockRepository.claim(venue, event.getEventDate());
+
+        int start = startMinute(event.getTimeFrom());
+        int end = endMinute(event.getTimeFrom(), event.getTimeTo());
+        eventRepository.findByEventDateAndStatusIn(event.getEventDate(), CONFIRMED).stream()
+                .filter(other -> !other.getId().equals(event.getId()))
+                .filter(other -> other.getPlace() != null && venue.equals(TextNormalizer.normalizeName(other.getPlace())))
+                .filter(other -> startMinute(other.getTimeFrom()) < end && endMinute(other.getTimeFrom(), other.getTimeTo()) > start)
+                .findFirst()
+                .ifPresent(clash -> {
+                    throw new RuntimeException("Venue '" + event.getPlace() + "' is already booked on " + event.getEventDate()
+                            + " (" + formatRange(clash.getTimeFrom(), clash.getTimeTo()) + ") for '" + clash.getEventName() + "'");
+                });
+    }
+
+    public List<VenueBookingDto> getBookings(String place, LocalDate date, LocalTime from, LocalTime to) {
+        return findOverlaps(place, date, from, to, b -> true).stream()
+                .sorted(Comparator.comparingInt(Booking::start))
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gaps between every tracked booking (pending ones included) inside the bookable day window.
+     */
+    public List<VenueSlotDto> getFreeSlots(String place, LocalDate date) {
+        DaySchedule schedule = schedules.get(new VenueDay(TextNormalizer.normalizeName(place), date));
+        List<VenueSlotDto> slots = new ArrayList<>();
+
+        int cursor = dayStartMinute;
+        if (schedule != null) {
+            for (Booking b : schedule.bookings()) {
+                if (b.start() > cursor && cursor < dayEndMinute) {
+                    slots.add(new VenueSlotDto(toTime(cursor), toTime(Math.min(b.start(), dayEndMinute))));
+                }
+                cursor = Math.max(cursor, b.end());
+            }
+        }
+        if (cursor < dayEndMinute) {
+            slots.add(new VenueSlotDto(toTime(cursor), toTime(dayEndMinute)));
+        }
+        return slots;
+    }
+
+    // Past days can never conflict again; drop them so memory tracks the remaining academic year only
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        schedules.keySet().removeIf(day -> day.date().isBefore(today));
+        bookedDays.values().removeIf(day -> day.date().isBefore(today));
+        resourceVersions.bump(ResourceVersions.VENUES);
+    }
+
+    private List<Booking> findOverlaps(String place, LocalDate date, LocalTime from, LocalTime to, Predicate<Booking> filter) {
+        DaySchedule schedule = schedules.get(new VenueDay(TextNormalizer.normalizeName(place), date));
+        if (schedule == null) return List.of();
+
+        List<Booking> result = new ArrayList<>();
+        schedule.collectOverlaps(startMinute(from), endMinute(from, to), filter, result);
+        return result;
+    }
+
+    private Booking toBooking(EventPermission event) {
+        if (event.getId() == null || event.getEventDate() == null || !TRACKED.contains(event.getStatus())) return null;
+        if (event.getPlace() == null || event.getPlace().isBlank()) return null;
+        if (event.getEventDate().isBefore(LocalDate.now())) return null;
+
+        return new Booking(
+                event.getId(),
+                new VenueDay(TextNormalizer.normalizeName(event.getPlace()), event.getEventDate()),
+                startMinute(event.getTimeFrom()),
+                endMinute(event.getTimeFrom(), event.getTimeTo()),
+                event.getStatus(),
+                event.getEventName(),
+                event.getSocietyName(),
+                event.getPlace(),
+                event.getTimeFrom(),
+                event.getTimeTo());
+    }
+
+    private VenueBookingDto toDto(Booking b) {
+        return new VenueBookingDto(b.eventId(), b.eventName(), b.societyName(), b.place(), b.day().date(),
+                b.timeFrom(), b.timeTo(), b.status().name(), CONFIRMED.contains(b.status()));
+    }
+
+    // Missing times mean the whole day is requested
+    private static int startMinute(LocalTime from) {
+        return from != null ? toMinute(from) : 0;
+    }
+
+    private static int endMinute(LocalTime from, LocalTime to) {
+        if (to == null) return MINUTES_PER_DAY;
+        int end = toMinute(to);
+        // An end before the start runs past midnight; the venue is held for the rest of the day
+        return end > startMinute(from) ? end : MINUTES_PER_DAY;
+    }
+
+    private static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minute) {
+        return minute >= MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static String formatRange(LocalTime from, LocalTime to) {
+        if (from == null && to == null) return "all day";
+        return (from != null ? from : "start of day") + " - " + (to != null ? to : "end of day");
+    }
+
+    private record VenueDay(String venue, LocalDate date) {
+    }
+
+    private record Booking(Long eventId, VenueDay day, int start, int end, EventPermission.EventStatus status,
+                           String eventName, String societyName, String place, LocalTime timeFrom, LocalTime timeTo) {
+    }
+
+    /**
+     * Immutable interval index for one venue on one day: bookings sorted by start minute plus a
+     * running maximum of end minutes. An overlap query binary-searches the last booking starting
+     * before the query end, then walks left only while the running maximum still reaches past the
+     * query start, giving O(log n + k) lookups. Updates copy the (small) arrays.
+     */
+    private static final class DaySchedule {
+
+        private final Booking[] byStart;
+        private final int[] maxEnd;
+
+        private DaySchedule(Booking[] byStart) {
+            Arrays.sort(byStart, Comparator.comparingInt(Booking::start).thenComparingInt(Booking::end));
+            this.byStart = byStart;
+            this.maxEnd = new int[byStart.length];
+            int max = 0;
+            for (int i = 0; i < byStart.length; i++) {
+                max = Math.max(max, byStart[i].end());
+                maxEnd[i] = max;
+            }
+        }
+
+        static DaySchedule of(List<Booking> bookings) {
+            return new DaySchedule(bookings.toArray(new Booking[0]));
+        }
+
+        DaySchedule with(Booking booking) {
+            Booking[] copy = Arrays.copyOf(byStart, byStart.length + 1);
+            copy[byStart.length] = booking;
+            return new DaySchedule(copy);
+        }
+
+        // Returns null when the last booking goes, which removes the day from the map
+        DaySchedule without(Long eventId) {
+            Booking[] remaining = Arrays.stream(byStart)
+                    .filter(b -> !b.eventId().equals(eventId))
+                    .toArray(Booking[]::new);
+            return remaining.length == 0 ? null : new DaySchedule(remaining);
+        }
+
+        List<Booking> bookings() {
+            return Arrays.asList(byStart);
+        }
+
+        void collectOverlaps(int start, int end, Predicate<Booking> filter, List<Booking> out) {
+            int lo = 0;
+            int hi = byStart.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (byStart[mid].start() < end) lo = mid + 1;
+                else hi = mid;
+            }
+            for (int i = lo - 1; i >= 0 && maxEnd[i] > start; i--) {
+                Booking b = byStart[i];
+                if (b.end() > start && filter.test(b)) out.add(b);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package lk.ac.pdn.sms.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Field-level deltas between two flat JSON documents whose values are scalars or arrays of
+ * objects, such as a serialized form DTO. Scalars that differ are stored under {@code set}
+ * (or listed in {@code unset} when they became null). Arrays are compared as multisets, so
+ * a roster where a few members changed stores only the new members under {@code add} and
+ * the positions of the departed ones (in the previous array) under {@code remove}. An
+ * array that replaces a null or scalar, or the reverse, is stored whole like a scalar.
+ *
+ * <p>A delta against an empty document is the full document less its null fields, which is
+ * how keyframes are written; a missing field reads back as null. {@link #apply} keeps surviving array elements in their old order and appends
+ * additions.
+ */
+public final class JsonDelta {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private JsonDelta() {
+    }
+
+    public static ObjectNode diff(ObjectNode from, ObjectNode to) {
+        ObjectNode set = NODES.objectNode();
+        ArrayNode unset = NODES.arrayNode();
+        ObjectNode add = NODES.objectNode();
+        ObjectNode remove = NODES.objectNode();
+
+        for (Iterator<Map.Entry<String, JsonNode>> it = to.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode before = value(from, field.getKey());
+            JsonNode after = field.getValue();
+            // Only array-to-array changes are diffed element-wise; a roster that appears or
+            // disappears is stored whole, so null and [] stay distinct on replay
+            if (after.isArray() && before.isArray()) {
+                ArrayNode added = NODES.arrayNode();
+                ArrayNode removed = NODES.arrayNode();
+                for (int index : unmatched(before, after, added)) removed.add(index);
+                if (!added.isEmpty()) add.set(field.getKey(), added);
+                if (!removed.isEmpty()) remove.set(field.getKey(), removed);
+            } else if (!after.equals(before)) {
+                if (after.isNull()) {
+                    unset.add(field.getKey());
+                } else {
+                    set.set(field.getKey(), after);
+                }
+            }
+        }
+        // Fields that disappeared altogether
+        for (Iterator<String> it = from.fieldNames(); it.hasNext(); ) {
+            String name = it.next();
+            if (to.has(name)) continue;
+            if (!from.get(name).isNull()) unset.add(name);
+        }
+
+        ObjectNode delta = NODES.objectNode();
+        if (!set.isEmpty()) delta.set("set", set);
+        if (!unset.isEmpty()) delta.set("unset", unset);
+        if (!add.isEmpty()) delta.set("add", add);
+        if (!remove.isEmpty()) delta.set("remove", remove);
+        return delta;
+    }
+
+    /**
+     * Applies {@code delta} to a copy of {@code base}.
+     */
+    public static ObjectNode apply(ObjectNode base, ObjectNode delta) {
+        ObjectNode result = base.deepCopy();
+        JsonNode set = delta.path("set");
+        for (Iterator<Map.Entry<String, JsonNode>> it = set.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            result.set(field.getKey(), field.getValue().deepCopy());
+        }
+        for (JsonNode name : delta.path("unset")) {
+            result.putNull(name.asText());
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = delta.path("remove").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode current = result.get(field.getKey());
+            if (current == null || !current.isArray()) continue;
+            Set<Integer> toRemove = new HashSet<>();
+            for (JsonNode index : field.getValue()) toRemove.add(index.asInt());
+            ArrayNode kept = NODES.arrayNode();
+            for (int i = 0; i < current.size(); i++) {
+                if (!toRemove.contains(i)) kept.add(current.get(i));
+            }
+            result.set(field.getKey(), kept);
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = delta.path("add").fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            JsonNode current = result.get(field.getKey());
+            ArrayNode target = current != null && current.isArray() ? (ArrayNode) current : result.putArray(field.getKey());
+            for (JsonNode element : field.getValue()) target.add(element.deepCopy());
+        }
+        return result;
+    }
+
+    /**
+     * Top-level field names a delta touches, for listing what changed in a version.
+     */
+    public static List<String> changedFields(ObjectNode delta) {
+        List<String> names = new ArrayList<>();
+        for (String section : new String[]{"set", "add", "remove"}) {
+            delta.path(section).fieldNames().forEachRemaining(name -> {
+                if (!names.contains(name)) names.add(name);
+            });
+        }
+        for (JsonNode name : delta.path("unset")) {
+            if (!names.contains(name.asText())) names.add(name.asText());
+        }
+        return names;
+    }
+
+    /**
+     * Splits two arrays into the elements only {@code before} has and those only
+     * {@code after} has, counting duplicates. Non-array values count as empty.
+     */
+    public static void compareArrays(JsonNode before, JsonNode after, List<JsonNode> removed, List<JsonNode> added) {
+        ArrayNode addedNodes = NODES.arrayNode();
+        for (int index : unmatched(before, after, addedNodes)) removed.add(before.get(index));
+        addedNodes.forEach(added::add);
+    }
+
+    // Pairs equal elements; returns the positions in before left unpaired, in order, and
+    // collects the elements of after left unpaired into added
+    private static List<Integer> unmatched(JsonNode before, JsonNode after, ArrayNode added) {
+        Map<JsonNode, ArrayDeque<Integer>> positions = new HashMap<>();
+        if (before.isArray()) {
+            for (int i = 0; i < before.size(); i++) {
+                positions.computeIfAbsent(before.get(i), k -> new ArrayDeque<>()).add(i);
+            }
+        }
+        boolean[] paired = new boolean[before.isArray() ? before.size() : 0];
+        if (after.isArray()) {
+            for (JsonNode element : after) {
+                ArrayDeque<Integer> candidates = positions.get(element);
+                Integer match = candidates != null ? candidates.poll() : null;
+                if (match != null) {
+                    paired[match] = true;
+                } else {
+                    added.add(element);
+                }
+            }
+        }
+        List<Integer> removed = new ArrayList<>();
+        for (int i = 0; i < paired.length; i++) {
+            if (!paired[i]) removed.add(i);
+        }
+        return removed;
+    }
+
+    private static JsonNode value(ObjectNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null ? value : NODES.nullNode();
+    }
+}
@@ -0,0 +1,81 @@
+package lk.ac.pdn.sms.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Streaming quantile sketch over non-negative values with logarithmic buckets: bucket i counts
+ * values in (gamma^(i-1), gamma^i], so any quantile it reports is within
+ * {@link #RELATIVE_ACCURACY} of a value that was actually added. Size grows with the log of the
+ * value range, not with the number of values, and two sketches merge by adding bucket counts.
+ * Values below 1 are counted as zero. Not thread-safe; a plain bean so Jackson can store it.
+ */
+@Data
+@NoArgsConstructor
+public class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private NavigableMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double max;
+
+    public void add(double value) {
+        if (value < 1) {
+            zeroCount++;
+        } else {
+            buckets.merge(index(value), 1L, Long::sum);
+        }
+        count++;
+        max = Math.max(max, value);
+    }
+
+    public void merge(QuantileSketch other) {
+        other.buckets.forEach((index, n) -> buckets.merge(index, n, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * The value at rank {@code q * (count - 1)}, for q in [0, 1]; 0 when the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (count == 0) return 0;
+        double rank = Math.min(1, Math.max(0, q)) * (count - 1);
+        long seen = zeroCount;
+        if (rank < seen) return 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (rank < seen) return Math.min(max, value(bucket.getKey()));
+        }
+        return max;
+    }
+
+    /**
+     * How many added values were at most {@code value}, to within one bucket.
+     */
+    public long countAtMost(double value) {
+        if (value < 1) return zeroCount;
+        long n = zeroCount;
+        for (long c : buckets.headMap(index(value), true).values()) n += c;
+        return n;
+    }
+
+    private static int index(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    // Midpoint of the bucket in relative terms, 2 * gamma^i / (gamma + 1)
+    private static double value(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
@@ -0,0 +1,113 @@
+package lk.ac.pdn.sms.util;
+
+import lk.ac.pdn.sms.exception.QueryBudgetExceededException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Scopes nest, so a
+ * statement counted by a test's own scope also counts towards the enclosing request.
+ * Outside any scope (startup, scheduled jobs) recording is a no-op. A scope belongs to the
+ * thread that opened it; statements run on other threads are not counted.
+ */
+public final class QueryCounter {
+
+    /** Distinct statements remembered per scope for repeat detection; the total is always exact. */
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Opens a counting scope on this thread. A budget of zero or less means unlimited;
+     * with {@code failWhenExceeded} the statement that crosses the budget throws
+     * {@link QueryBudgetExceededException} instead of running.
+     */
+    public static Scope start(int budget, boolean failWhenExceeded) {
+        Scope scope = new Scope(CURRENT.get(), budget, failWhenExceeded);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope start() {
+        return start(0, false);
+    }
+
+    /**
+     * Called by the Hibernate statement inspector for every prepared statement.
+     */
+    public static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final int budget;
+        private final boolean failWhenExceeded;
+        private final Map<String, Integer> statements = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent, int budget, boolean failWhenExceeded) {
+            this.parent = parent;
+            this.budget = budget;
+            this.failWhenExceeded = failWhenExceeded;
+        }
+
+        private void add(String sql) {
+            count++;
+            if (statements.containsKey(sql) || statements.size() < MAX_TRACKED_STATEMENTS) {
+                statements.merge(sql, 1, Integer::sum);
+            }
+            if (failWhenExceeded && isOverBudget()) {
+                throw new QueryBudgetExceededException("Query budget of " + budget
+                        + " statements exceeded by: " + sql);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+
+        public boolean isOverBudget() {
+            return budget > 0 && count > budget;
+        }
+
+        /**
+         * Statements issued at least {@code threshold} times, most frequent first. Identical
+         * SQL repeated per row is the usual signature of an N+1 lazy load.
+         */
+        public Map<String, Integer> getRepeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new HashMap<>();
+            statements.forEach((sql, n) -> {
+                if (n >= threshold) repeated.put(sql, n);
+            });
+            Map<String, Integer> sorted = new LinkedHashMap<>();
+            repeated.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+            return sorted;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
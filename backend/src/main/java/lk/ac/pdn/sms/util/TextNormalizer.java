@@ -0,0 +1,48 @@
+package lk.ac.pdn.sms.util;
+
+/**
+ * Canonical forms for free-text keys (venues, society names) used by the in-memory indexes.
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Lower-cases, trims and collapses internal whitespace runs to a single space,
+     * so "Main  Hall " and "main hall" map to the same key.
+     */
+    public static String normalizeName(String value) {
+        if (value == null) return "";
+        StringBuilder sb = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Upper-cases a student registration number and drops whitespace and slashes,
+     * so "s/19/123" and "S 19 123" both become "S19123".
+     */
+    public static String normalizeRegNo(String regNo) {
+        if (regNo == null) return "";
+        StringBuilder sb = new StringBuilder(regNo.length());
+        for (int i = 0; i < regNo.length(); i++) {
+            char c = regNo.charAt(i);
+            if (c == '/' || c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B) continue;
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+}
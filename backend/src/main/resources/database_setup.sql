@@ -253,7 +253,8 @@ CREATE TABLE IF NOT EXISTS event_permissions (
 
                                                  rejection_reason TEXT,
                                                  submitted_date DATETIME DEFAULT CURRENT_TIMESTAMP,
-                                                 approved_date DATETIME
+                                                 approved_date DATETIME,
+                                                 KEY idx_event_permissions_date (event_date)
 );
 
 -- ==========================================
@@ -312,6 +313,91 @@ CREATE TABLE IF NOT EXISTS renewal_committee_members (
                                                          FOREIGN KEY (renewal_id) REFERENCES society_renewals(id) ON DELETE CASCADE
 );
 
+-- Read model: latest approved data per society, used to pre-fill the renewal form
+CREATE TABLE IF NOT EXISTS society_profiles (
+                                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                society_name VARCHAR(255) NOT NULL UNIQUE,
+                                                source_type VARCHAR(20) NOT NULL,
+                                                source_id BIGINT NOT NULL,
+                                                approved_date DATETIME,
+                                                prefill_json LONGTEXT NOT NULL,
+                                                updated_at DATETIME
+);
+
+-- Per-year society profile history: each row is a delta against the previous version, keyframes hold the full profile
+CREATE TABLE IF NOT EXISTS society_profile_versions (
+                                                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                        society_name VARCHAR(255) NOT NULL,
+                                                        version INT NOT NULL,
+                                                        year INT NOT NULL,
+                                                        source_type VARCHAR(20) NOT NULL,
+                                                        source_id BIGINT NOT NULL,
+                                                        approved_date DATETIME,
+                                                        keyframe BOOLEAN NOT NULL,
+                                                        delta_json LONGTEXT NOT NULL,
+                                                        created_at DATETIME,
+                                                        UNIQUE KEY uk_society_profile_versions (society_name, version)
+);
+
+CREATE TABLE IF NOT EXISTS admin_application_view (
+                                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                      application_type VARCHAR(20) NOT NULL,
+                                                      application_id BIGINT NOT NULL,
+                                                      society_name VARCHAR(255),
+                                                      event_name VARCHAR(255),
+                                                      applicant_name VARCHAR(255),
+                                                      faculty VARCHAR(255),
+                                                      year INT,
+                                                      aims TEXT,
+                                                      status VARCHAR(30) NOT NULL,
+                                                      submitted_date DATETIME,
+                                                      updated_at DATETIME,
+                                                      UNIQUE KEY uk_admin_application_view (application_type, application_id),
+                                                      KEY idx_admin_application_view_status_faculty (status, faculty)
+);
+
+CREATE TABLE IF NOT EXISTS application_transitions (
+                                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                      application_type VARCHAR(20) NOT NULL,
+                                                      application_id BIGINT NOT NULL,
+                                                      action VARCHAR(20) NOT NULL,
+                                                      from_status VARCHAR(30),
+                                                      to_status VARCHAR(30) NOT NULL,
+                                                      actor VARCHAR(255),
+                                                      faculty VARCHAR(255),
+                                                      occurred_at DATETIME NOT NULL,
+                                                      recorded_at DATETIME NOT NULL,
+                                                      KEY idx_application_transitions_application (application_type, application_id)
+);
+
+CREATE TABLE IF NOT EXISTS transition_snapshots (
+                                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                      projection VARCHAR(100) NOT NULL UNIQUE,
+                                                      last_transition_id BIGINT NOT NULL,
+                                                      state_json LONGTEXT NOT NULL,
+                                                      created_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS statistics_rollup (
+                                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                      year INT NOT NULL,
+                                                      month INT NOT NULL,
+                                                      faculty VARCHAR(255) NOT NULL,
+                                                      application_type VARCHAR(20) NOT NULL,
+                                                      status VARCHAR(30) NOT NULL,
+                                                      application_count BIGINT NOT NULL,
+                                                      UNIQUE KEY uk_statistics_rollup_cell (year, month, faculty, application_type, status),
+                                                      KEY idx_statistics_rollup_type_year (application_type, year)
+);
+
+CREATE TABLE IF NOT EXISTS venue_day_locks (
+                                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                      venue VARCHAR(255) NOT NULL,
+                                                      event_date DATE NOT NULL,
+                                                      claims BIGINT NOT NULL,
+                                                      UNIQUE KEY uk_venue_day_lock (venue, event_date)
+);
+
 -- ==========================================
 -- 7. INITIAL SYSTEM ADMINS (Required)
 -- ==========================================
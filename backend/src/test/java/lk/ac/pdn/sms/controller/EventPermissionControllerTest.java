@@ -0,0 +1,132 @@
+package lk.ac.pdn.sms.controller;
+
+import lk.ac.pdn.sms.entity.EventPermission;
+import lk.ac.pdn.sms.repository.EventPermissionRepository;
+import lk.ac.pdn.sms.service.CalendarFeedService;
+import lk.ac.pdn.sms.service.UpcomingEventsService;
+import lk.ac.pdn.sms.service.VenueCalendarService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static lk.ac.pdn.sms.util.QueryAssertions.assertQueryCount;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The public event reads are answered from the in-memory read models and must not touch
+ * the database, however many events there are.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventPermissionControllerTest {
+
+    private static final LocalDate EVENT_DATE = LocalDate.now().plusDays(7);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventPermissionRepository eventRepository;
+
+    @Autowired
+    private UpcomingEventsService upcomingEventsService;
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private VenueCalendarService venueCalendarService;
+
+    @BeforeEach
+    void seedApprovedEvents() {
+        eventRepository.deleteAll();
+        for (int i = 1; i <= 3; i++) {
+            eventRepository.save(approvedEvent("Debating Night " + i, LocalTime.of(8 + 3 * i, 0)));
+        }
+        upcomingEventsService.rebuild();
+        calendarFeedService.rebuild();
+        venueCalendarService.rebuild();
+    }
+
+    @Test
+    void upcomingEventsIssueNoQueries() throws Exception {
+        assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].eventName").value("Debating Night 1"))
+                .andExpect(jsonPath("$[0].applicantEmail").doesNotExist()));
+    }
+
+    @Test
+    void calendarFeedsIssueNoQueries() throws Exception {
+        assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/calendar.ics"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SUMMARY:Debating Night 3"))));
+        assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/calendar/society.ics")
+                        .param("society", "Debating Society"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SUMMARY:Debating Night 2"))));
+    }
+
+    @Test
+    void venueReadsIssueNoQueries() throws Exception {
+        assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/venues/bookings")
+                        .param("place", "Arts Theatre")
+                        .param("date", EVENT_DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3)));
+        assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/venues/free-slots")
+                        .param("place", "Arts Theatre")
+                        .param("date", EVENT_DATE.toString()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void malformedVenueDateOrTimeIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/public/venues/bookings")
+                        .param("place", "Arts Theatre")
+                        .param("date", EVENT_DATE.toString())
+                        .param("timeFrom", "09:00")
+                        .param("timeTo", "12:30"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/events/public/venues/bookings")
+                        .param("place", "Arts Theatre")
+                        .param("date", EVENT_DATE.toString())
+                        .param("timeFrom", "9am"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events/public/venues/free-slots")
+                        .param("place", "Arts Theatre")
+                        .param("date", "31/12/2025"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static EventPermission approvedEvent(String name, LocalTime from) {
+        EventPermission event = new EventPermission();
+        event.setApplicantName("Kamal Perera");
+        event.setApplicantRegNo("S/19/123");
+        event.setApplicantEmail("s19123@sci.pdn.ac.lk");
+        event.setApplicantMobile("0771234567");
+        event.setApplicantPosition("Secretary");
+        event.setApplicantFaculty("Faculty of Science");
+        event.setSocietyName("Debating Society");
+        event.setEventName(name);
+        event.setEventDate(EVENT_DATE);
+        event.setTimeFrom(from);
+        event.setTimeTo(from.plusHours(2));
+        event.setPlace("Arts Theatre");
+        event.setStatus(EventPermission.EventStatus.APPROVED);
+        return event;
+    }
+}
@@ -0,0 +1,26 @@
+package lk.ac.pdn.sms.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Accept-Encoding negotiation for the pre-compressed society directory.
+ */
+class SocietyControllerTest {
+
+    @Test
+    void gzipIsSentOnlyWhenTheClientAcceptsIt() {
+        assertThat(SocietyController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SocietyController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(SocietyController.acceptsGzip("*")).isTrue();
+
+        assertThat(SocietyController.acceptsGzip(null)).isFalse();
+        assertThat(SocietyController.acceptsGzip("identity")).isFalse();
+        assertThat(SocietyController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(SocietyController.acceptsGzip("gzip; q=0.0, deflate")).isFalse();
+        assertThat(SocietyController.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(SocietyController.acceptsGzip("*;q=0")).isFalse();
+        assertThat(SocietyController.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+}
@@ -0,0 +1,97 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.MembershipDto;
+import lk.ac.pdn.sms.entity.RegistrationCommitteeMember;
+import lk.ac.pdn.sms.entity.RegistrationGeneralMember;
+import lk.ac.pdn.sms.entity.Society;
+import lk.ac.pdn.sms.entity.SocietyRegistration;
+import lk.ac.pdn.sms.repository.SocietyRegistrationRepository;
+import lk.ac.pdn.sms.repository.SocietyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static lk.ac.pdn.sms.util.QueryAssertions.assertMaxQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The startup rebuild loads every approved roster; it must not lazy-load them one
+ * registration at a time.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MembershipIndexTest {
+
+    private static final int SOCIETIES = 10;
+
+    @Autowired
+    private MembershipIndex membershipIndex;
+
+    @Autowired
+    private SocietyRepository societyRepository;
+
+    @Autowired
+    private SocietyRegistrationRepository registrationRepository;
+
+    @BeforeEach
+    void seedApprovedRegistrations() {
+        registrationRepository.deleteAll();
+        societyRepository.deleteAll();
+        for (int i = 1; i <= SOCIETIES; i++) {
+            String name = "Society " + i;
+            Society society = new Society();
+            society.setSocietyName(name);
+            society.setFaculty("Faculty of Science");
+            society.setYear(2026);
+            society.setPresidentRegNo("S/19/" + (100 + i));
+            societyRepository.save(society);
+
+            SocietyRegistration reg = new SocietyRegistration();
+            reg.setSocietyName(name);
+            reg.setYear(2026);
+            reg.setStatus(SocietyRegistration.ApprovalStage.APPROVED);
+            reg.setApprovedDate(LocalDateTime.now());
+            reg.setCommitteeMember(new ArrayList<>(List.of(committeeMember("S/20/" + (200 + i)))));
+            reg.setMember(new ArrayList<>(List.of(generalMember("S/21/001"), generalMember("S/21/" + (300 + i)))));
+            registrationRepository.save(reg);
+        }
+    }
+
+    @Test
+    void rebuildFetchesRostersWithoutPerRegistrationQueries() throws Exception {
+        // Roster queries for registrations and renewals plus the societies, whatever the row count
+        assertMaxQueryCount(5, () -> {
+            membershipIndex.rebuild();
+            return null;
+        });
+
+        List<MembershipDto> shared = membershipIndex.getMemberships("s/21/001");
+        assertThat(shared).hasSize(SOCIETIES).allMatch(m -> m.getRole().equals("MEMBER"));
+        assertThat(membershipIndex.getMemberships("S/20/201"))
+                .singleElement()
+                .satisfies(m -> assertThat(m.getRole()).isEqualTo("COMMITTEE_MEMBER"));
+        assertThat(membershipIndex.getMemberships("S/19/101"))
+                .singleElement()
+                .satisfies(m -> assertThat(m.isOfficial()).isTrue());
+    }
+
+    private static RegistrationCommitteeMember committeeMember(String regNo) {
+        RegistrationCommitteeMember member = new RegistrationCommitteeMember();
+        member.setRegNo(regNo);
+        member.setName("Committee " + regNo);
+        return member;
+    }
+
+    private static RegistrationGeneralMember generalMember(String regNo) {
+        RegistrationGeneralMember member = new RegistrationGeneralMember();
+        member.setRegNo(regNo);
+        member.setName("Member " + regNo);
+        return member;
+    }
+}
@@ -0,0 +1,50 @@
+package lk.ac.pdn.sms.service;
+
+import lk.ac.pdn.sms.dto.RosterDiffDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RosterDiffServiceTest {
+
+    @Test
+    void matchesByRegistrationNumberIgnoringSlashesAndCase() {
+        RosterDiffDto.RosterChanges changes = RosterDiffService.diff(
+                List.of(entry("S/19/101", "Kamal Perera"), entry("S/19/102", "Nimal Silva"), entry("S/19/103", "Sunil")),
+                List.of(entry("s19101", "Kamal  Perera"), entry("S/19/102", "Nimal de Silva"), entry("S/20/201", "Ruwan")));
+
+        assertThat(changes.getUnchanged()).isEqualTo(1);
+        assertThat(changes.getRenamed()).extracting(RosterDiffDto.Renamed::getName).containsExactly("Nimal de Silva");
+        assertThat(changes.getAdded()).extracting(RosterDiffDto.Entry::getRegNo).containsExactly("S/20/201");
+        assertThat(changes.getRemoved()).extracting(RosterDiffDto.Entry::getRegNo).containsExactly("S/19/103");
+    }
+
+    @Test
+    void membersWithoutRegistrationNumbersAreMatchedByName() {
+        RosterDiffDto.RosterChanges changes = RosterDiffService.diff(
+                List.of(entry("", "Amara Jayasinghe"), entry(null, "Dilani Fernando"), entry(" ", "Chamath"), entry(null, "")),
+                List.of(entry(null, "amara jayasinghe"), entry("", "Dilani Fernando"), entry(null, "Isuru"), entry("", null)));
+
+        assertThat(changes.getUnchanged()).isEqualTo(2);
+        assertThat(changes.getAdded()).extracting(RosterDiffDto.Entry::getName).containsExactly("Isuru");
+        assertThat(changes.getRemoved()).extracting(RosterDiffDto.Entry::getName).containsExactly("Chamath");
+        assertThat(changes.getRenamed()).isEmpty();
+    }
+
+    @Test
+    void repeatedNamesWithoutNumbersMatchOnce() {
+        RosterDiffDto.RosterChanges changes = RosterDiffService.diff(
+                List.of(entry(null, "Saman")),
+                List.of(entry(null, "Saman"), entry(null, "Saman")));
+
+        assertThat(changes.getUnchanged()).isEqualTo(1);
+        assertThat(changes.getAdded()).hasSize(1);
+        assertThat(changes.getRemoved()).isEmpty();
+    }
+
+    private static RosterDiffDto.Entry entry(String regNo, String name) {
+        return new RosterDiffDto.Entry(regNo, name);
+    }
+}
@@ -0,0 +1,63 @@
+package lk.ac.pdn.sms.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverForgetsAKeyItWasGiven() {
+        BloomFilter filter = BloomFilter.create(5_000, 0.01);
+        for (int i = 0; i < 5_000; i++) filter.put("society-" + i + "|2025");
+        for (int i = 0; i < 5_000; i++) assertThat(filter.mightContain("society-" + i + "|2025")).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetAtCapacity() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("present-" + i);
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) falsePositives++;
+        }
+        double measured = (double) falsePositives / probes;
+        assertThat(measured).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void sizesBitsAndHashesFromTheTargetRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        // m = -n ln p / (ln 2)^2 = 95851 bits, rounded up to whole words; k = m/n ln 2 = 7
+        assertThat(filter.bitSize()).isEqualTo(95_872);
+        assertThat(filter.bitSize() % 64).isZero();
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void degenerateArgumentsStillGiveAUsableFilter() {
+        BloomFilter empty = BloomFilter.create(0, 0.01);
+        assertThat(empty.bitSize()).isEqualTo(64);
+        assertThat(empty.hashCount()).isBetween(1, 16);
+        empty.put("only");
+        assertThat(empty.mightContain("only")).isTrue();
+
+        // Rates outside (0, 0.5] are clamped rather than producing zero or negative sizes
+        assertThat(BloomFilter.create(1_000, 0.9).bitSize()).isEqualTo(BloomFilter.create(1_000, 0.5).bitSize());
+        assertThat(BloomFilter.create(1_000, 0).hashCount()).isEqualTo(16);
+    }
+
+    @Test
+    void expectedRateGrowsAsTheFilterFills() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        for (int i = 0; i < 500; i++) filter.put("k" + i);
+        double half = filter.expectedFalsePositiveRate();
+        for (int i = 500; i < 2_000; i++) filter.put("k" + i);
+        assertThat(half).isGreaterThan(0).isLessThan(0.01);
+        assertThat(filter.expectedFalsePositiveRate()).isGreaterThan(0.01);
+    }
+}
@@ -0,0 +1,114 @@
+package lk.ac.pdn.sms.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonDeltaTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void scalarChangesAreSetOrUnset() throws Exception {
+        ObjectNode from = json("{\"bankName\":\"BOC\",\"agmDate\":\"2024-03-01\",\"website\":\"x.lk\"}");
+        ObjectNode to = json("{\"bankName\":\"People's Bank\",\"agmDate\":\"2024-03-01\",\"website\":null}");
+
+        ObjectNode delta = JsonDelta.diff(from, to);
+
+        assertThat(delta).isEqualTo(json("{\"set\":{\"bankName\":\"People's Bank\"},\"unset\":[\"website\"]}"));
+        assertThat(JsonDelta.apply(from, delta)).isEqualTo(to);
+        assertThat(JsonDelta.changedFields(delta)).containsExactly("bankName", "website");
+    }
+
+    @Test
+    void arraysStoreOnlyAdditionsAndRemovedPositions() throws Exception {
+        ObjectNode from = json("{\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"B\"},{\"regNo\":\"C\"}]}");
+        ObjectNode to = json("{\"member\":[{\"regNo\":\"C\"},{\"regNo\":\"A\"},{\"regNo\":\"D\"}]}");
+
+        ObjectNode delta = JsonDelta.diff(from, to);
+
+        assertThat(delta).isEqualTo(json("{\"add\":{\"member\":[{\"regNo\":\"D\"}]},\"remove\":{\"member\":[1]}}"));
+        // Survivors keep their old order and additions go last
+        assertThat(JsonDelta.apply(from, delta))
+                .isEqualTo(json("{\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"C\"},{\"regNo\":\"D\"}]}"));
+    }
+
+    @Test
+    void duplicateElementsAreCountedNotCollapsed() throws Exception {
+        ObjectNode from = json("{\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"A\"},{\"regNo\":\"B\"}]}");
+        ObjectNode to = json("{\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"B\"},{\"regNo\":\"B\"}]}");
+
+        ObjectNode delta = JsonDelta.diff(from, to);
+
+        assertThat(delta).isEqualTo(json("{\"add\":{\"member\":[{\"regNo\":\"B\"}]},\"remove\":{\"member\":[1]}}"));
+        assertThat(JsonDelta.apply(from, delta).get("member")).hasSize(3);
+    }
+
+    @Test
+    void unchangedDocumentsGiveAnEmptyDelta() throws Exception {
+        ObjectNode doc = json("{\"name\":\"Chess Club\",\"member\":[{\"regNo\":\"A\"}],\"website\":null}");
+        assertThat(JsonDelta.diff(doc, doc.deepCopy()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void arraysBecomingNullAndBackReplayExactly() throws Exception {
+        ObjectNode withRoster = json("{\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"B\"}]}");
+        ObjectNode withoutRoster = json("{\"member\":null}");
+
+        assertThat(JsonDelta.apply(withRoster, JsonDelta.diff(withRoster, withoutRoster))).isEqualTo(withoutRoster);
+        assertThat(JsonDelta.apply(withoutRoster, JsonDelta.diff(withoutRoster, withRoster))).isEqualTo(withRoster);
+        // An empty roster is not the same as no roster
+        ObjectNode emptyRoster = json("{\"member\":[]}");
+        assertThat(JsonDelta.apply(withoutRoster, JsonDelta.diff(withoutRoster, emptyRoster))).isEqualTo(emptyRoster);
+        assertThat(JsonDelta.apply(emptyRoster, JsonDelta.diff(emptyRoster, withoutRoster))).isEqualTo(withoutRoster);
+    }
+
+    @Test
+    void keyframePlusDeltasReplaysEveryVersion() throws Exception {
+        List<ObjectNode> versions = List.of(
+                json("{\"president\":\"Kamal\",\"website\":null,\"member\":[{\"regNo\":\"A\"},{\"regNo\":\"B\"}],\"board\":null}"),
+                json("{\"president\":\"Nimal\",\"website\":null,\"member\":[{\"regNo\":\"B\"},{\"regNo\":\"C\"}],\"board\":[{\"name\":\"Dr X\"}]}"),
+                json("{\"president\":\"Nimal\",\"website\":\"chess.lk\",\"member\":null,\"board\":[{\"name\":\"Dr X\"}]}"),
+                json("{\"president\":null,\"website\":\"chess.lk\",\"member\":[{\"regNo\":\"D\"}],\"board\":[]}"));
+
+        // Stored the way the history is: a keyframe (delta against {}) then deltas against the previous version
+        List<ObjectNode> stored = new ArrayList<>();
+        stored.add(JsonDelta.diff(mapper.createObjectNode(), versions.get(0)));
+        for (int i = 1; i < versions.size(); i++) stored.add(JsonDelta.diff(versions.get(i - 1), versions.get(i)));
+
+        ObjectNode document = JsonDelta.apply(mapper.createObjectNode(), stored.get(0));
+        assertThat(withoutNulls(document)).isEqualTo(withoutNulls(versions.get(0)));
+        for (int i = 1; i < versions.size(); i++) {
+            // Deltas are stored as text
+            document = JsonDelta.apply(document, json(stored.get(i).toString()));
+            assertThat(withoutNulls(document)).as("version %d", i).isEqualTo(withoutNulls(versions.get(i)));
+        }
+    }
+
+    @Test
+    void compareArraysTreatsNonArraysAsEmpty() throws Exception {
+        List<JsonNode> removed = new ArrayList<>();
+        List<JsonNode> added = new ArrayList<>();
+        JsonDelta.compareArrays(mapper.nullNode(), json("{\"a\":[1,2]}").get("a"), removed, added);
+
+        assertThat(removed).isEmpty();
+        assertThat(added).extracting(JsonNode::asInt).containsExactly(1, 2);
+    }
+
+    // Keyframes leave null fields out, and a missing field deserializes as null
+    private static ObjectNode withoutNulls(ObjectNode document) {
+        ObjectNode copy = document.deepCopy();
+        copy.properties().removeIf(field -> field.getValue().isNull());
+        return copy;
+    }
+
+    private ObjectNode json(String text) throws Exception {
+        return (ObjectNode) mapper.readTree(text);
+    }
+}
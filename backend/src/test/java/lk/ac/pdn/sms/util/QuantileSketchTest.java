@@ -0,0 +1,96 @@
+package lk.ac.pdn.sms.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    @Test
+    void emptySketchReportsZero() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.countAtMost(1_000)).isZero();
+        assertThat(sketch.getMax()).isZero();
+    }
+
+    @Test
+    void quantilesAreWithinTheRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int v = 1; v <= 10_000; v++) sketch.add(v);
+
+        for (double q : new double[]{0.0, 0.1, 0.5, 0.9, 0.99}) {
+            double exact = 1 + q * 9_999;
+            assertThat(sketch.quantile(q)).isCloseTo(exact, within(exact * QuantileSketch.RELATIVE_ACCURACY + 1));
+        }
+        assertThat(sketch.quantile(1)).isCloseTo(10_000, within(10_000 * QuantileSketch.RELATIVE_ACCURACY));
+        assertThat(sketch.getMax()).isEqualTo(10_000);
+        assertThat(sketch.getCount()).isEqualTo(10_000);
+    }
+
+    @Test
+    void valuesBelowOneCountAsZero() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(0.4);
+        sketch.add(0.99);
+        sketch.add(100);
+
+        assertThat(sketch.getZeroCount()).isEqualTo(3);
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.quantile(1)).isCloseTo(100, within(1.0));
+        assertThat(sketch.countAtMost(0.5)).isEqualTo(3);
+    }
+
+    @Test
+    void quantileNeverExceedsTheLargestValue() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(1_000);
+        // The bucket midpoint lies above 1000, but nothing larger was ever added
+        assertThat(sketch.quantile(0.5)).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    void countAtMostIsExactUpToOneBucket() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int hours = 1; hours <= 48; hours++) sketch.add(hours * 3600.0);
+
+        // A value on the bound is always counted; values within one bucket above it may be
+        assertThat(sketch.countAtMost(24 * 3600.0)).isEqualTo(24);
+        assertThat(sketch.countAtMost(24 * 3600.0 - 1)).isBetween(23L, 24L);
+        assertThat(sketch.countAtMost(1e9)).isEqualTo(48);
+    }
+
+    @Test
+    void mergingEqualsAddingEverythingToOneSketch() {
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int v = 0; v < 2_000; v++) {
+            double value = (v * 37) % 5_000 + 0.5;
+            (v % 2 == 0 ? left : right).add(value);
+            all.add(value);
+        }
+        left.merge(right);
+
+        assertThat(left.getCount()).isEqualTo(all.getCount());
+        assertThat(left.getZeroCount()).isEqualTo(all.getZeroCount());
+        assertThat(left.getMax()).isEqualTo(all.getMax());
+        assertThat(left.getBuckets()).isEqualTo(all.getBuckets());
+        assertThat(left.quantile(0.9)).isEqualTo(all.quantile(0.9));
+    }
+
+    @Test
+    void survivesASnapshotRoundTrip() throws Exception {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int v = 1; v <= 500; v++) sketch.add(v * 7.5);
+
+        ObjectMapper mapper = new ObjectMapper();
+        QuantileSketch restored = mapper.readValue(mapper.writeValueAsString(sketch), QuantileSketch.class);
+
+        assertThat(restored).isEqualTo(sketch);
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+    }
+}
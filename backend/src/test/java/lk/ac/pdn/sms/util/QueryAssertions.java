@@ -0,0 +1,48 @@
+package lk.ac.pdn.sms.util;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Statement-count assertions for integration tests, built on {@link QueryCounter}. The scope
+ * they open encloses the request's own, so everything the request runs is counted, e.g.
+ * {@code assertQueryCount(0, () -> mockMvc.perform(get("/api/events/public/upcoming")))}.
+ */
+public final class QueryAssertions {
+
+    private QueryAssertions() {
+    }
+
+    /**
+     * Runs the action and fails unless it issued exactly {@code expected} statements.
+     */
+    public static <T> T assertQueryCount(int expected, Callable<T> action) throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            T result = action.call();
+            if (scope.getCount() != expected) {
+                throw new AssertionError("Expected " + expected + " SQL statements but got "
+                        + scope.getCount() + describe(scope));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Like {@link #assertQueryCount} but only bounds the count from above.
+     */
+    public static <T> T assertMaxQueryCount(int max, Callable<T> action) throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            T result = action.call();
+            if (scope.getCount() > max) {
+                throw new AssertionError("Expected at most " + max + " SQL statements but got "
+                        + scope.getCount() + describe(scope));
+            }
+            return result;
+        }
+    }
+
+    private static String describe(QueryCounter.Scope scope) {
+        StringBuilder sb = new StringBuilder(":");
+        scope.getRepeatedStatements(1).forEach((sql, count) -> sb.append("\n  ").append(count).append("x ").append(sql));
+        return sb.toString();
+    }
+}
@@ -1,6 +1,8 @@
 import React, { useEffect, useState } from 'react';
 import { apiService } from '../../services/api';
-import { Check, X, FileText } from 'lucide-react';
+import { Check, X, FileText, AlertTriangle, Users } from 'lucide-react';
+import { DuplicateMatch } from '../../types';
+import RosterDiffPanel from './RosterDiffPanel';
 
 interface PendingItem {
   id: string;
@@ -10,11 +12,13 @@ interface PendingItem {
   submittedDate: string;
   status: string;
   details?: any; // Extra details like event name or faculty
+  possibleDuplicates?: DuplicateMatch[]; // Registrations only
 }
 
 const AdminApprovals: React.FC<{ user: any }> = ({ user }) => {
   const [items, setItems] = useState<PendingItem[]>([]);
   const [loading, setLoading] = useState(true);
+  const [rosterOpen, setRosterOpen] = useState<string | null>(null); // Renewal whose roster changes are shown
 
   const fetchPending = async () => {
     try {
@@ -83,9 +87,36 @@ const AdminApprovals: React.FC<{ user: any }> = ({ user }) => {
                       </div>
                       <h3 className="text-lg font-medium text-gray-900">{item.societyName}</h3>
                       <p className="text-sm text-gray-600">Applicant: {item.applicantName}</p>
+                      {item.possibleDuplicates && item.possibleDuplicates.length > 0 && (
+                          <div className="mt-2 text-sm bg-yellow-50 border border-yellow-200 rounded-lg p-3">
+                            <div className="flex items-center text-yellow-800 font-medium mb-1">
+                              <AlertTriangle className="w-4 h-4 mr-2" />
+                              Similar to {item.possibleDuplicates.length} existing {item.possibleDuplicates.length === 1 ? 'society' : 'societies'}
+                            </div>
+                            <ul className="text-yellow-700 space-y-0.5">
+                              {item.possibleDuplicates.map((match) => (
+                                  <li key={`${match.source}-${match.id}`}>
+                                    {match.societyName}{match.year ? ` (${match.year})` : ''} - {Math.round(match.score * 100)}% match
+                                    {match.source === 'registration' ? ', still in review' : ''}
+                                  </li>
+                              ))}
+                            </ul>
+                          </div>
+                      )}
+                      {item.type === 'renewal' && rosterOpen === item.id && <RosterDiffPanel renewalId={item.id} />}
                     </div>
 
                     <div className="flex items-center space-x-3">
+                      {item.type === 'renewal' && (
+                          <button
+                              onClick={() => setRosterOpen(rosterOpen === item.id ? null : item.id)}
+                              className={`p-2 transition-colors ${rosterOpen === item.id ? 'text-blue-600' : 'text-gray-400 hover:text-blue-600'}`}
+                              title="Roster Changes"
+                          >
+                            <Users className="w-5 h-5" />
+                          </button>
+                      )}
+
                       {/* View Details Button logic would go here */}
                       <button className="p-2 text-gray-400 hover:text-blue-600 transition-colors" title="View Application">
                         <FileText className="w-5 h-5" />
@@ -0,0 +1,85 @@
+import React, { useEffect, useState } from 'react';
+import { apiService } from '../../services/api';
+import { ApprovalLatency } from '../../types';
+
+const GROUPINGS = [
+  { value: '', label: 'Stage only' },
+  { value: 'faculty', label: 'By faculty' },
+  { value: 'approver', label: 'By approver' },
+  { value: 'faculty,approver', label: 'By faculty and approver' },
+];
+
+const formatHours = (hours: number) => (hours >= 48 ? `${(hours / 24).toFixed(1)} d` : `${hours.toFixed(1)} h`);
+
+// p50/p90/p99 wait per type and approval stage, kept live on the server from the transition journal
+const ApprovalLatencyPanel: React.FC = () => {
+  const [groupBy, setGroupBy] = useState('');
+  const [rows, setRows] = useState<ApprovalLatency[]>([]);
+  const [loading, setLoading] = useState(true);
+
+  useEffect(() => {
+    setLoading(true);
+    apiService.admin.getApprovalLatency({ groupBy: groupBy || undefined })
+        .then(res => setRows(res.data))
+        .catch(err => console.error(err))
+        .finally(() => setLoading(false));
+  }, [groupBy]);
+
+  const byFaculty = groupBy.includes('faculty');
+  const byApprover = groupBy.includes('approver');
+
+  return (
+      <div className="bg-white rounded-xl shadow-sm border border-gray-200">
+        <div className="p-6 border-b border-gray-200 flex justify-between items-center">
+          <h2 className="text-lg font-semibold text-gray-900">Approval Latency</h2>
+          <select
+              value={groupBy}
+              onChange={e => setGroupBy(e.target.value)}
+              className="text-sm border border-gray-300 rounded-lg px-3 py-2"
+          >
+            {GROUPINGS.map(g => <option key={g.value} value={g.value}>{g.label}</option>)}
+          </select>
+        </div>
+        {loading ? (
+            <div className="p-6 text-gray-500">Loading latency...</div>
+        ) : rows.length === 0 ? (
+            <div className="p-6 text-center text-gray-500">No completed approval stages yet.</div>
+        ) : (
+            <div className="overflow-x-auto">
+              <table className="min-w-full text-sm">
+                <thead className="bg-gray-50 text-gray-600 text-left">
+                <tr>
+                  <th className="px-6 py-3">Type</th>
+                  <th className="px-6 py-3">Stage</th>
+                  {byFaculty && <th className="px-6 py-3">Faculty</th>}
+                  {byApprover && <th className="px-6 py-3">Approver</th>}
+                  <th className="px-6 py-3 text-right">Count</th>
+                  <th className="px-6 py-3 text-right">p50</th>
+                  <th className="px-6 py-3 text-right">p90</th>
+                  <th className="px-6 py-3 text-right">p99</th>
+                  <th className="px-6 py-3 text-right">Max</th>
+                </tr>
+                </thead>
+                <tbody className="divide-y divide-gray-200">
+                {rows.map(row => (
+                    <tr key={`${row.applicationType}-${row.stage}-${row.faculty ?? ''}-${row.approver ?? ''}`}>
+                      <td className="px-6 py-3 font-medium text-gray-900">{row.applicationType}</td>
+                      <td className="px-6 py-3">{row.stage.replace('PENDING_', '')}</td>
+                      {byFaculty && <td className="px-6 py-3">{row.faculty || '-'}</td>}
+                      {byApprover && <td className="px-6 py-3">{row.approver || '-'}</td>}
+                      <td className="px-6 py-3 text-right">{row.count}</td>
+                      <td className="px-6 py-3 text-right">{formatHours(row.p50Hours)}</td>
+                      <td className="px-6 py-3 text-right">{formatHours(row.p90Hours)}</td>
+                      <td className="px-6 py-3 text-right">{formatHours(row.p99Hours)}</td>
+                      <td className="px-6 py-3 text-right">{formatHours(row.maxHours)}</td>
+                    </tr>
+                ))}
+                </tbody>
+              </table>
+            </div>
+        )}
+      </div>
+  );
+};
+
+export default ApprovalLatencyPanel;
@@ -0,0 +1,59 @@
+import React, { useEffect, useState } from 'react';
+import { apiService } from '../../services/api';
+import { RosterChanges, RosterDiff } from '../../types';
+
+// Who joined, left or was renamed in a renewal since the society's last approved profile
+const RosterDiffPanel: React.FC<{ renewalId: string }> = ({ renewalId }) => {
+  const [diff, setDiff] = useState<RosterDiff | null>(null);
+  const [error, setError] = useState(false);
+
+  useEffect(() => {
+    apiService.renewals.getRosterDiff(renewalId)
+        .then(res => setDiff(res.data))
+        .catch(err => {
+          console.error(err);
+          setError(true);
+        });
+  }, [renewalId]);
+
+  if (error) return <div className="mt-2 text-sm text-red-600">Could not load roster changes.</div>;
+  if (!diff) return <div className="mt-2 text-sm text-gray-500">Loading roster changes...</div>;
+
+  return (
+      <div className="mt-2 text-sm bg-gray-50 border border-gray-200 rounded-lg p-3 space-y-3">
+        <div className="text-gray-600">
+          {diff.baselineYear
+              ? `Compared with the approved ${diff.baselineYear} profile`
+              : 'No approved profile to compare with; every name is new'}
+        </div>
+        <RosterSection title="Committee" changes={diff.committee} />
+        <RosterSection title="Members" changes={diff.members} />
+      </div>
+  );
+};
+
+const RosterSection: React.FC<{ title: string; changes: RosterChanges }> = ({ title, changes }) => (
+    <div>
+      <div className="font-medium text-gray-900">
+        {title}: {changes.previousCount} → {changes.currentCount}
+        <span className="ml-2 text-gray-500 font-normal">
+        ({changes.unchanged} unchanged, {changes.added.length} added, {changes.removed.length} removed, {changes.renamed.length} renamed)
+      </span>
+      </div>
+      <ul className="mt-1 space-y-0.5">
+        {changes.added.map(entry => (
+            <li key={`added-${entry.regNo}`} className="text-green-700">+ {entry.name} ({entry.regNo})</li>
+        ))}
+        {changes.removed.map(entry => (
+            <li key={`removed-${entry.regNo}`} className="text-red-700">- {entry.name} ({entry.regNo})</li>
+        ))}
+        {changes.renamed.map(entry => (
+            <li key={`renamed-${entry.regNo}`} className="text-yellow-700">
+              ~ {entry.previousName} → {entry.name} ({entry.regNo})
+            </li>
+        ))}
+      </ul>
+    </div>
+);
+
+export default RosterDiffPanel;
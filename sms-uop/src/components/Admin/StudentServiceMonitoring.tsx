@@ -1,6 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { apiService } from '../../services/api';
 import { Eye } from 'lucide-react';
+import ApprovalLatencyPanel from './ApprovalLatencyPanel';
 
 const StudentServiceMonitoring: React.FC = () => {
   const [items, setItems] = useState<any[]>([]);
@@ -13,6 +14,8 @@ const StudentServiceMonitoring: React.FC = () => {
   }, []);
 
   return (
+      <div className="space-y-6">
+      <ApprovalLatencyPanel />
       <div className="bg-white rounded-xl shadow-sm border border-gray-200">
         <div className="p-6 border-b border-gray-200 flex justify-between items-center">
           <h2 className="text-lg font-semibold text-gray-900">Application Monitoring</h2>
@@ -43,6 +46,7 @@ const StudentServiceMonitoring: React.FC = () => {
           ))}
         </div>
       </div>
+      </div>
   );
 };
 
@@ -43,6 +43,7 @@ export const apiService = {
         apiClient.get('/renewals/admin/pending', { params }),
     getAll: (params?: { page?: number; size?: number; year?: number; status?: string }) =>
         apiClient.get('/renewals/admin/all', { params }),
+    getRosterDiff: (id: string) => apiClient.get(`/renewals/admin/${id}/roster-diff`),
   },
 
   events: {
@@ -65,6 +66,8 @@ export const apiService = {
     getARPending: () => apiClient.get('/admin/ar/pending-applications'),
     getVCPending: () => apiClient.get('/admin/vc/pending-applications'),
     getSSMonitoring: () => apiClient.get('/admin/ss/monitoring-applications'),
+    getApprovalLatency: (params?: { groupBy?: string; type?: string; faculty?: string; approver?: string }) =>
+        apiClient.get('/admin/ss/approval-latency', { params }),
     getActivityLogs: (params?: { user?: string; action?: string; page?: number; size?: number }) =>
         apiClient.get('/admin/activity-logs', { params }),
     getSocieties: (params?: { year?: number; status?: string; page?: number; size?: number }) =>
@@ -154,6 +154,54 @@ export const FACULTIES = [
   'Faculty of Allied Health Sciences'
 ];
 
+// A society or in-review registration whose name (and aims) resemble a new registration
+export interface DuplicateMatch {
+  source: 'society' | 'registration';
+  id: number;
+  societyName: string;
+  year?: number;
+  status?: string;
+  score: number; // 0..1, 1 = same name after normalization
+}
+
+export interface RosterEntry {
+  regNo: string;
+  name: string;
+}
+
+export interface RosterChanges {
+  previousCount: number;
+  currentCount: number;
+  unchanged: number;
+  added: RosterEntry[];
+  removed: RosterEntry[];
+  renamed: { regNo: string; previousName: string; name: string }[]; // Same regNo, different name
+}
+
+// A renewal's committee and member lists compared with the society's last approved profile
+export interface RosterDiff {
+  renewalId: number;
+  societyName: string;
+  year: number;
+  baselineYear?: number; // Absent when the society has no approved profile yet
+  committee: RosterChanges;
+  members: RosterChanges;
+}
+
+// How long applications waited at one approval stage, in hours
+export interface ApprovalLatency {
+  applicationType: 'REGISTRATION' | 'RENEWAL' | 'EVENT';
+  stage: string; // The status they waited in, e.g. PENDING_AR
+  faculty?: string; // Only when grouped by faculty
+  approver?: string; // Only when grouped by approver
+  count: number;
+  p50Hours: number;
+  p90Hours: number;
+  p99Hours: number;
+  maxHours: number;
+  histogram: Record<string, number>; // "1h", "1d", ... "30d", "more" -> waits in that band
+}
+
 export interface ActivityLog {
   id: string;
   userId: string;